@@ -0,0 +1,148 @@
+package com.sampoom.material.benchmark;
+
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.CursorResponseDto;
+import com.sampoom.material.api.material.dto.MaterialBatchItemDto;
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.dto.PageResponseDto;
+import com.sampoom.material.api.material.service.MaterialCodeAllocator;
+import com.sampoom.material.api.material.service.MaterialCursor;
+import com.sampoom.material.api.material.service.MaterialService;
+import com.sampoom.material.fixture.SyntheticCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MaterialService 주요 경로 벤치마크.
+ * 카탈로그 크기별로 애플리케이션을 한 번 기동해 두고 서비스 메서드를 직접 호출한다.
+ * - convertToDto      : 다건 조회(getMaterialsByIds) 의 DTO 변환/조립 경로로 측정 (DB 조회는 DTO 프로젝션)
+ * - generateMaterialCode : MaterialCodeAllocator.next (구간 소진 시 DB 예약 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaterialServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_GET_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private MaterialService materialService;
+    private MaterialCategoryRegistry categoryRegistry;
+    private MaterialCodeAllocator codeAllocator;
+    private MaterialDetailCache detailCache;
+
+    private MaterialCategoryResponseDto category;
+    private int deepPage;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SyntheticCatalog.boot("material-service-benchmark-" + catalogSize,
+                List.of("--spring.main.web-application-type=none"));
+        SyntheticCatalog.seed(context, "BEN", catalogSize);
+        materialService = context.getBean(MaterialService.class);
+        categoryRegistry = context.getBean(MaterialCategoryRegistry.class);
+        codeAllocator = context.getBean(MaterialCodeAllocator.class);
+        detailCache = context.getBean(MaterialDetailCache.class);
+
+        category = categoryRegistry.getAll().get(0);
+        deepPage = catalogSize / PAGE_SIZE / 2;
+        middleCursor = new MaterialCursor(SyntheticCatalog.FIRST_SYNTHETIC_ID + catalogSize / 2, null).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomId() {
+        return SyntheticCatalog.FIRST_SYNTHETIC_ID + ThreadLocalRandom.current().nextInt(catalogSize);
+    }
+
+    @Benchmark
+    public MaterialCategoryResponseDto categoryLookup() {
+        return categoryRegistry.getOrThrow(category.getId());
+    }
+
+    @Benchmark
+    public List<MaterialCategoryResponseDto> getAllCategories() {
+        return materialService.getAllCategories();
+    }
+
+    @Benchmark
+    public String generateMaterialCode() {
+        return codeAllocator.next(category);
+    }
+
+    @Benchmark
+    public MaterialResponseDto getMaterialByIdCached() {
+        return materialService.getMaterialById(randomId());
+    }
+
+    @Benchmark
+    public MaterialResponseDto getMaterialByIdUncached() {
+        long id = randomId();
+        detailCache.invalidateAll();
+        return materialService.getMaterialById(id);
+    }
+
+    @Benchmark
+    public List<MaterialBatchItemDto> convertToDto() {
+        List<Long> ids = new ArrayList<>(BATCH_GET_SIZE);
+        for (int i = 0; i < BATCH_GET_SIZE; i++) {
+            ids.add(randomId());
+        }
+        return materialService.getMaterialsByIds(ids);
+    }
+
+    @Benchmark
+    public PageResponseDto<MaterialResponseDto> firstPage() {
+        return materialService.getAllMaterials(0, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public PageResponseDto<MaterialResponseDto> deepOffsetPage() {
+        return materialService.getAllMaterials(deepPage, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public CursorResponseDto<MaterialResponseDto> deepCursorPage() {
+        return materialService.getAllMaterialsAfter(middleCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PageResponseDto<MaterialResponseDto> searchMaterialsByName() {
+        return materialService.searchMaterials("강판", 0, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public PageResponseDto<MaterialResponseDto> searchMaterialsByCode() {
+        return materialService.searchMaterials("mtl-000012", 0, PAGE_SIZE, false);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sampoom.material.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 하나의 응답 시간(마이크로초) 기록.
+ * 측정 구간의 요청 수가 수십만 건 수준이므로 전부 보관했다가 끝에서 정렬해 백분위를 구한다.
+ */
+final class LatencyRecorder {
+
+    private final String endpoint;
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[4096];
+    private int count;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(long micros) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = micros;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    synchronized Summary summarize(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long errorCount = errors.get();
+        long total = count;
+        return new Summary(endpoint, total, errorCount,
+                total == 0 ? 0 : (double) errorCount / total,
+                total / durationSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+
+    // 시간 단위는 ms, 처리량은 요청/초 (오류 포함)
+    record Summary(String endpoint, long requests, long errors, double errorRate, double throughput,
+                   double p50, double p95, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.sampoom.material.loadtest;
+
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.fixture.SyntheticCatalog;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 대상 애플리케이션 기동 + 합성 카탈로그 적재 (SyntheticCatalog).
+ * 임의 포트, 내장 H2 로 기동하므로 외부 DB/네트워크 없이 실행된다.
+ */
+final class LoadTestCatalog {
+
+    private final ConfigurableApplicationContext context;
+    private final int catalogSize;
+    private final List<Long> categoryIds = new ArrayList<>();
+
+    private LoadTestCatalog(ConfigurableApplicationContext context, int catalogSize) {
+        this.context = context;
+        this.catalogSize = catalogSize;
+    }
+
+    // name: 내장 H2 DB 이름 (한 JVM 에서 여러 번 기동할 때 서로 다른 DB 를 쓰도록)
+    static LoadTestCatalog start(String name, int catalogSize, List<String> extraArgs) {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        args.addAll(extraArgs);
+
+        LoadTestCatalog catalog = new LoadTestCatalog(SyntheticCatalog.boot(name, args), catalogSize);
+        catalog.seed();
+        return catalog;
+    }
+
+    int port() {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    int catalogSize() {
+        return catalogSize;
+    }
+
+    List<Long> categoryIds() {
+        return categoryIds;
+    }
+
+    void close() {
+        context.close();
+    }
+
+    private void seed() {
+        long startedAt = System.nanoTime();
+        for (MaterialCategoryResponseDto category : SyntheticCatalog.seed(context, "LDT", catalogSize)) {
+            categoryIds.add(category.getId());
+        }
+        System.out.printf("Seeded %,d materials in %,d ms%n", catalogSize, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,270 @@
+package com.sampoom.material.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sampoom.material.fixture.SyntheticCatalog;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP 부하 테스트.
+ * 애플리케이션을 임의 포트 + 내장 H2 로 기동하고 합성 카탈로그를 적재한 뒤,
+ * 고정 도착률(open model)로 혼합 요청을 보내 엔드포인트별 처리량/지연 백분위/오류율을 보고한다.
+ * 지연은 "보냈어야 할 시각" 기준으로 재므로 서버가 밀려도 측정 누락(coordinated omission)이 생기지 않는다.
+ *
+ * 설정 (시스템 프로퍼티, ./gradlew loadTest -P... 로 전달)
+ * - loadtest.catalogSize : 적재할 자재 수 (기본 100000)
+ * - loadtest.rate        : 초당 요청 수 (기본 200)
+ * - loadtest.warmup      : 워밍업 시간, 결과에서 제외 (기본 10s)
+ * - loadtest.duration    : 측정 시간 (기본 60s)
+ * - loadtest.mix         : 요청 비율 (기본 detail=50,list=20,category=10,search=15,create=5)
+ * - loadtest.appArgs     : 애플리케이션에 넘길 추가 인자, 쉼표 구분 (예: --spring.threads.virtual.enabled=true)
+ * - loadtest.compareThreads : true 면 플랫폼 스레드 / 가상 스레드 모드로 한 번씩 (각각 새로 기동해) 실행하고
+ *                             엔드포인트별 처리량과 p99 를 나란히 보고한다
+ * - loadtest.report      : JSON 보고서 경로
+ */
+public final class LoadTestRunner {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_LIST_PAGE = 50;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestCatalog catalog;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    private final AtomicLong createSequence = new AtomicLong();
+
+    private LoadTestRunner(LoadTestCatalog catalog) {
+        this.catalog = catalog;
+        this.baseUrl = "http://localhost:" + catalog.port();
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder(operation.name().toLowerCase()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int catalogSize = Integer.getInteger("loadtest.catalogSize", 100_000);
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "60s"));
+        Mix mix = Mix.parse(System.getProperty("loadtest.mix", "detail=50,list=20,category=10,search=15,create=5"));
+        List<String> appArgs = splitArgs(System.getProperty("loadtest.appArgs", ""));
+        boolean compareThreads = Boolean.getBoolean("loadtest.compareThreads");
+        Path report = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json"));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("catalogSize", catalogSize);
+        result.put("rate", rate);
+        result.put("warmupSeconds", warmup.toSeconds());
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("mix", mix.toString());
+        result.put("appArgs", appArgs);
+        if (!compareThreads) {
+            result.put("endpoints", runOnce("material-load-test", catalogSize, rate, warmup, duration, mix, appArgs));
+        } else {
+            Map<String, List<LatencyRecorder.Summary>> runs = new LinkedHashMap<>();
+            for (String mode : List.of("platform", "virtual")) {
+                List<String> modeArgs = new ArrayList<>(appArgs);
+                modeArgs.add("--spring.threads.virtual.enabled=" + mode.equals("virtual"));
+                runs.put(mode, runOnce("material-load-test-" + mode, catalogSize, rate, warmup, duration, mix, modeArgs));
+            }
+            printComparison(runs.get("platform"), runs.get("virtual"));
+            result.put("runs", runs);
+        }
+        write(report, result);
+    }
+
+    private static List<LatencyRecorder.Summary> runOnce(String name, int catalogSize, int rate, Duration warmup, Duration duration,
+                                                         Mix mix, List<String> appArgs) throws InterruptedException {
+        LoadTestCatalog catalog = LoadTestCatalog.start(name, catalogSize, appArgs);
+        try {
+            LoadTestRunner runner = new LoadTestRunner(catalog);
+            System.out.printf("Running %d req/s for %s (+%s warmup), mix=%s, appArgs=%s%n", rate, duration, warmup, mix, appArgs);
+            runner.run(rate, warmup, duration, mix);
+
+            List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+            for (LatencyRecorder recorder : runner.recorders.values()) {
+                summaries.add(recorder.summarize(duration.toMillis() / 1000.0));
+            }
+            print(summaries);
+            return summaries;
+        } finally {
+            catalog.close();
+        }
+    }
+
+    private void run(int rate, Duration warmup, Duration duration, Mix mix) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmup.toNanos();
+        long endAt = measureFrom + duration.toNanos();
+
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedAt = startedAt + i * intervalNanos;
+                if (intendedAt >= endAt) {
+                    break;
+                }
+                long wait;
+                while ((wait = intendedAt - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = mix.pick();
+                boolean measured = intendedAt >= measureFrom;
+                senders.execute(() -> send(operation, intendedAt, measured));
+            }
+            // try-with-resources 종료 시 남은 요청이 끝날 때까지 기다린다
+        }
+    }
+
+    private void send(Operation operation, long intendedAt, boolean measured) {
+        boolean failed;
+        try {
+            HttpResponse<Void> response = client.send(request(operation), HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (Exception e) {
+            failed = true;
+        }
+        if (!measured) {
+            return;
+        }
+        LatencyRecorder recorder = recorders.get(operation);
+        recorder.record((System.nanoTime() - intendedAt) / 1000);
+        if (failed) {
+            recorder.recordError();
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case DETAIL -> get("/api/materials/" + (SyntheticCatalog.FIRST_SYNTHETIC_ID + random.nextInt(catalog.catalogSize())));
+            case LIST -> get("/api/materials?page=" + random.nextInt(MAX_LIST_PAGE) + "&size=" + PAGE_SIZE);
+            case CATEGORY -> get("/api/materials/category");
+            case SEARCH -> get("/api/materials/search?size=" + PAGE_SIZE + "&keyword="
+                    + URLEncoder.encode(SyntheticCatalog.MATERIALS.get(random.nextInt(SyntheticCatalog.MATERIALS.size())), StandardCharsets.UTF_8));
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/materials"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"부하테스트 자재 " + createSequence.incrementAndGet()
+                            + "\",\"materialCategoryId\":" + catalog.categoryIds().get(random.nextInt(catalog.categoryIds().size())) + "}"))
+                    .build();
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static void print(List<LatencyRecorder.Summary> summaries) {
+        System.out.printf("%n%-10s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (LatencyRecorder.Summary s : summaries) {
+            System.out.printf("%-10s %10d %7.2f%% %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    s.endpoint(), s.requests(), s.errorRate() * 100, s.throughput(), s.p50(), s.p95(), s.p99(), s.p999(), s.max());
+        }
+    }
+
+    // 같은 엔드포인트끼리 플랫폼/가상 스레드 결과를 나란히 출력
+    private static void printComparison(List<LatencyRecorder.Summary> platform, List<LatencyRecorder.Summary> virtual) {
+        System.out.printf("%n%-10s %14s %14s %14s %14s %10s %10s%n",
+                "endpoint", "platform req/s", "virtual req/s", "platform p99", "virtual p99", "p/err%", "v/err%");
+        for (int i = 0; i < platform.size(); i++) {
+            LatencyRecorder.Summary p = platform.get(i);
+            LatencyRecorder.Summary v = virtual.get(i);
+            System.out.printf("%-10s %14.1f %14.1f %14.2f %14.2f %9.2f%% %9.2f%%%n",
+                    p.endpoint(), p.throughput(), v.throughput(), p.p99(), v.p99(), p.errorRate() * 100, v.errorRate() * 100);
+        }
+    }
+
+    private static void write(Path report, Map<String, Object> result) throws Exception {
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), result);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static List<String> splitArgs(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(arg -> !arg.isEmpty())
+                .toList();
+    }
+
+    enum Operation { DETAIL, LIST, CATEGORY, SEARCH, CREATE }
+
+    // 가중치 기반 요청 선택
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String value) {
+            List<Operation> operations = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (String entry : value.split(",")) {
+                String[] pair = entry.trim().split("=");
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight <= 0) {
+                    continue;
+                }
+                total += weight;
+                operations.add(Operation.valueOf(pair[0].trim().toUpperCase()));
+                cumulative.add(total);
+            }
+            if (operations.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix 에 가중치가 양수인 요청이 없습니다: " + value);
+            }
+            return new Mix(operations.toArray(Operation[]::new), cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        Operation pick() {
+            int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            int previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(operations[i].name().toLowerCase()).append('=').append(cumulativeWeights[i] - previous);
+                previous = cumulativeWeights[i];
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.sampoom.material.api.material.cache;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.entity.MaterialChangeLog;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialRevision;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialChangeLogRepository;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.api.material.repository.MaterialRevisionRepository;
+import com.sampoom.material.api.material.search.MaterialHangulIndex;
+import com.sampoom.material.api.material.search.MaterialSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 인스턴스에서 커밋된 자재 변경을 이 인스턴스의 캐시/색인에 반영한다.
+ * 주기적으로 material_revision 을 읽어 반영된 리비전보다 앞서 있으면, 그 사이의 변경 이력을 읽어
+ * 검색 색인/상세 캐시에 적용하고 CatalogVersion 의 리비전(ETag)을 올린다.
+ * 밀린 변경이 max-changes 건을 넘으면 색인을 다시 적재하고 캐시를 모두 비운다.
+ */
+@Slf4j
+@Component
+public class CatalogRevisionSync {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final MaterialRevisionRepository revisionRepository;
+    private final MaterialChangeLogRepository changeLogRepository;
+    private final MaterialRepository materialRepository;
+    private final MaterialSearchIndex searchIndex;
+    private final MaterialHangulIndex hangulIndex;
+    private final MaterialDetailCache detailCache;
+    private final MaterialCountCache countCache;
+    private final CatalogVersion catalogVersion;
+    private final int maxChanges;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public CatalogRevisionSync(MaterialRevisionRepository revisionRepository,
+                               MaterialChangeLogRepository changeLogRepository,
+                               MaterialRepository materialRepository,
+                               MaterialSearchIndex searchIndex,
+                               MaterialHangulIndex hangulIndex,
+                               MaterialDetailCache detailCache,
+                               MaterialCountCache countCache,
+                               CatalogVersion catalogVersion,
+                               @Value("${material.cache.revision-sync.max-changes:50000}") int maxChanges) {
+        this.revisionRepository = revisionRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.materialRepository = materialRepository;
+        this.searchIndex = searchIndex;
+        this.hangulIndex = hangulIndex;
+        this.detailCache = detailCache;
+        this.countCache = countCache;
+        this.catalogVersion = catalogVersion;
+        this.maxChanges = maxChanges;
+    }
+
+    // 색인 적재(같은 ApplicationReadyEvent)보다 먼저 리비전을 읽어, 적재 도중 커밋된 변경도 다음 동기화에서 반영되게 한다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        catalogVersion.initialize(currentState().getRevision());
+    }
+
+    @Scheduled(fixedDelayString = "${material.cache.revision-sync.interval-ms:1000}",
+            initialDelayString = "${material.cache.revision-sync.interval-ms:1000}")
+    public void sync() {
+        // 실행 중인 동기화가 있으면 건너뛴다
+        if (!syncLock.tryLock()) {
+            return;
+        }
+        try {
+            long from = catalogVersion.beginSync();
+            if (from < 0) {
+                return;
+            }
+            try {
+                MaterialRevision state = currentState();
+                long to = state.getRevision();
+                // 반영한 리비전 이후의 DELETE 이력이 정리되었으면 변경 이력만으로는 따라잡을 수 없다
+                if (to > from && (state.getCompactedRevision() > from || !applyChanges(from, to))) {
+                    reloadAll(from, to);
+                }
+                catalogVersion.synced(to);
+            } catch (RuntimeException e) {
+                catalogVersion.syncFailed();
+                log.warn("Material catalog revision sync failed. from={}", from, e);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private MaterialRevision currentState() {
+        return revisionRepository.findById(MaterialRevision.ROW_ID)
+                .orElseGet(() -> MaterialRevision.builder().id(MaterialRevision.ROW_ID).build());
+    }
+
+    // (from, to] 의 변경을 반영한다. 변경이 너무 많으면 반영하지 않고 false
+    private boolean applyChanges(long from, long to) {
+        long revision = from;
+        long afterMaterialId = Long.MAX_VALUE;
+        int applied = 0;
+        while (true) {
+            List<MaterialChangeLog> logs = changeLogRepository.findChangesAfter(revision, afterMaterialId, PageRequest.of(0, PAGE_SIZE));
+            // 같은 페이지에서 여러 번 바뀐 자재는 마지막 변경만 반영 (UPSERT 는 현재 행을 읽으므로 결과가 같다)
+            Map<Long, MaterialChangeType> changes = new LinkedHashMap<>();
+            for (MaterialChangeLog log : logs) {
+                if (log.getRevision() > to) {
+                    break;
+                }
+                changes.put(log.getMaterialId(), log.getChangeType());
+            }
+            if (changes.isEmpty()) {
+                break;
+            }
+            applied += changes.size();
+            if (applied > maxChanges) {
+                return false;
+            }
+            apply(changes);
+
+            MaterialChangeLog last = logs.get(logs.size() - 1);
+            if (logs.size() < PAGE_SIZE || last.getRevision() > to) {
+                break;
+            }
+            revision = last.getRevision();
+            afterMaterialId = last.getMaterialId();
+        }
+        if (applied > 0) {
+            countCache.clear();
+            log.debug("Applied remote material changes. revisions=({}, {}], materials={}", from, to, applied);
+        }
+        return true;
+    }
+
+    private void apply(Map<Long, MaterialChangeType> changes) {
+        List<Long> upsertIds = new ArrayList<>(changes.size());
+        changes.forEach((id, type) -> {
+            if (type == MaterialChangeType.UPSERT) {
+                upsertIds.add(id);
+            }
+        });
+        Map<Long, MaterialResponseDto> materials = upsertIds.isEmpty()
+                ? Map.of()
+                : materialRepository.findDtosByIdIn(upsertIds).stream()
+                        .collect(Collectors.toMap(MaterialResponseDto::getId, Function.identity()));
+
+        for (Long id : changes.keySet()) {
+            MaterialResponseDto material = materials.get(id);
+            // 이후 삭제된 자재(행이 없거나 툼스톤)는 삭제로 반영
+            MaterialChangedEvent event = (material != null)
+                    ? MaterialChangedEvent.created(material)
+                    : MaterialChangedEvent.deleted(MaterialResponseDto.builder().id(id).build());
+            searchIndex.onMaterialChanged(event);
+            hangulIndex.onMaterialChanged(event);
+        }
+        detailCache.invalidateAll(changes.keySet());
+    }
+
+    private void reloadAll(long from, long to) {
+        log.info("Too many remote material changes, reloading caches. revisions=({}, {}]", from, to);
+        searchIndex.rebuild();
+        hangulIndex.rebuild();
+        detailCache.invalidateAll();
+        countCache.clear();
+    }
+}
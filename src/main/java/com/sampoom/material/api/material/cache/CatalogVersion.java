@@ -0,0 +1,162 @@
+package com.sampoom.material.api.material.cache;
+
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자재 카탈로그 버전.
+ * - current(): 이 인스턴스의 캐시/색인이 바뀔 때마다 증가하는 로컬 버전 (HotResponseCache 항목 무효화용)
+ * - etag(): 조회 API 의 약한 ETag. 공유 리비전(material_revision)과 카테고리 스냅샷으로 만들므로,
+ *   같은 리비전까지 반영한 인스턴스들은 같은 ETag 를 내려준다.
+ *
+ * 반영된 리비전은 두 경로로 올라간다.
+ * - 이 인스턴스에서 커밋한 변경: MaterialChangeTracker 가 커밋 후 committed() 로 알린다.
+ *   바로 앞 리비전까지 반영된 상태면 그대로 이어 붙이고, 사이에 다른 인스턴스의 리비전이 있으면
+ *   "반영된 리비전-로컬 리비전" 형태의 ETag 를 내려 다른 인스턴스의 ETag 와 겹치지 않게 한다.
+ * - 다른 인스턴스에서 커밋한 변경: CatalogRevisionSync 가 변경 이력을 캐시/색인에 반영한 뒤 synced() 로 알린다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 이 리비전까지의 변경은 모두 캐시/색인에 반영되어 있다 (초기화 전에는 -1)
+    private long syncedRevision = -1;
+    // syncedRevision 이후에 이 인스턴스에서 커밋되어 반영된 리비전
+    private final TreeSet<Long> localRevisions = new TreeSet<>();
+    private String categoryStamp = "0";
+    // 동기화 중에 커밋된 로컬 리비전은 동기화가 읽은 예전 값으로 덮였을 수 있으므로 이어 붙이지 않는다
+    private boolean syncing;
+
+    private volatile String etag;
+
+    public long current() {
+        return version.get();
+    }
+
+    public void increment() {
+        version.incrementAndGet();
+    }
+
+    // 약한 ETag: W/"{리비전}.{카테고리}" (리비전을 아직 모르면 null: 조건부 GET 을 처리하지 않는다)
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * 기동 시 캐시/색인을 적재하기 전에 읽은 리비전으로 초기화한다.
+     */
+    public void initialize(long revision) {
+        lock.lock();
+        try {
+            if (syncedRevision < 0) {
+                syncedRevision = revision;
+                updateETag();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 커밋한 리비전의 변경이 캐시/색인에 반영되었음을 알린다.
+     */
+    public void committed(long revision) {
+        lock.lock();
+        try {
+            if (syncedRevision < 0 || revision <= syncedRevision) {
+                return;
+            }
+            localRevisions.add(revision);
+            // 앞 리비전까지 반영된 상태면 이어지는 로컬 리비전을 그대로 반영 완료로 본다
+            while (!syncing && !localRevisions.isEmpty() && localRevisions.first() == syncedRevision + 1) {
+                syncedRevision = localRevisions.pollFirst();
+            }
+            updateETag();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 변경 동기화를 시작한다. 이 리비전 이후의 변경 이력을 반영하면 된다 (초기화 전이면 -1).
+     */
+    public long beginSync() {
+        lock.lock();
+        try {
+            if (syncedRevision >= 0) {
+                syncing = true;
+            }
+            return syncedRevision;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * revision 까지의 모든 변경이 캐시/색인에 반영되었음을 알린다.
+     * 동기화 중에 커밋된 그 이후의 로컬 리비전은 다음 동기화에서 다시 반영한다.
+     */
+    public void synced(long revision) {
+        lock.lock();
+        try {
+            syncing = false;
+            if (revision > syncedRevision) {
+                syncedRevision = revision;
+                localRevisions.headSet(revision, true).clear();
+                updateETag();
+            }
+        } finally {
+            lock.unlock();
+        }
+        increment();
+    }
+
+    public void syncFailed() {
+        lock.lock();
+        try {
+            syncing = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void categoriesChanged(int categoryHash) {
+        lock.lock();
+        try {
+            categoryStamp = Integer.toUnsignedString(categoryHash, 36);
+            updateETag();
+        } finally {
+            lock.unlock();
+        }
+        increment();
+    }
+
+    /**
+     * 캐시/색인 무효화(AFTER_COMMIT 리스너)가 모두 끝난 뒤에 버전을 올린다.
+     * 먼저 올리면 새 버전으로 무효화 전의 캐시 값이 저장될 수 있다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        increment();
+    }
+
+    private void updateETag() {
+        if (syncedRevision < 0) {
+            etag = null;
+            return;
+        }
+        // 로컬 리비전은 syncedRevision 이 바뀌기 전까지 늘기만 하므로 (마지막 값, 개수) 로 구분된다
+        String revision = localRevisions.isEmpty()
+                ? Long.toString(syncedRevision)
+                : syncedRevision + "-" + localRevisions.last() + "-" + localRevisions.size();
+        etag = "W/\"" + revision + "." + categoryStamp + "\"";
+    }
+}
@@ -0,0 +1,77 @@
+package com.sampoom.material.api.material.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sampoom.material.api.material.dto.CacheStatsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되는 응답(카테고리 목록, 목록 첫 페이지)의 직렬화 결과 캐시.
+ * 일반/gzip 바이트를 함께 보관하고, 저장 시점의 카탈로그 버전과 현재 버전이 같을 때만 사용한다.
+ * 변경이 커밋되면 버전이 올라가므로 다음 요청에서 한 번만 다시 직렬화/압축된다.
+ */
+@Component
+public class HotResponseCache implements MeterBinder {
+
+    private final Cache<String, Entry> cache;
+
+    public HotResponseCache(@Value("${material.cache.response.maximum-size:256}") long maximumSize) {
+        // W-TinyLFU 가 자주 요청되는 키만 남기므로 "인기 목록" 선별을 따로 하지 않는다
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // 현재 버전으로 만들어진 항목만 반환
+    public Entry get(String key, long version) {
+        Entry entry = cache.getIfPresent(key);
+        return (entry != null && entry.version() == version) ? entry : null;
+    }
+
+    public Entry put(String key, long version, String contentType, byte[] body) {
+        Entry entry = new Entry(version, contentType, body, gzip(body));
+        cache.put(key, entry);
+        return entry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "hotResponse");
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .name("hotResponse")
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record Entry(long version, String contentType, byte[] plain, byte[] gzip) {
+    }
+}
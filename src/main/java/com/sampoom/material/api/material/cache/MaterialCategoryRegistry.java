@@ -0,0 +1,170 @@
+package com.sampoom.material.api.material.cache;
+
+import com.sampoom.material.api.material.dto.CacheStatsDto;
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.entity.MaterialCategory;
+import com.sampoom.material.api.material.repository.MaterialCategoryRepository;
+import com.sampoom.material.common.exception.NotFoundException;
+import com.sampoom.material.common.response.ErrorStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자재 카테고리 참조 데이터 캐시.
+ * 카테고리는 거의 바뀌지 않으므로 전체를 불변 스냅샷으로 들고 있다가,
+ * 스냅샷에 없는 ID 가 DB 에 존재하면(다른 인스턴스에서 추가된 경우) 스냅샷을 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterialCategoryRegistry implements MeterBinder {
+
+    private final MaterialCategoryRepository categoryRepository;
+    private final CatalogVersion catalogVersion;
+
+    private volatile Snapshot snapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<MaterialCategoryResponseDto> categories = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                    .stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toUnmodifiableList());
+            snapshot = new Snapshot(categories);
+            refreshes.increment();
+            catalogVersion.categoriesChanged(contentHash(categories));
+            log.info("Material category registry refreshed. categories={}", categories.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public List<MaterialCategoryResponseDto> getAll() {
+        hits.increment();
+        return current().categories();
+    }
+
+    public Optional<MaterialCategoryResponseDto> find(Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        MaterialCategoryResponseDto category = current().byId().get(categoryId);
+        if (category != null) {
+            hits.increment();
+            return Optional.of(category);
+        }
+
+        misses.increment();
+        // 스냅샷 이후에 추가된 카테고리인지 DB 로 확인
+        if (!categoryRepository.existsById(categoryId)) {
+            return Optional.empty();
+        }
+        refresh();
+        return Optional.ofNullable(snapshot.byId().get(categoryId));
+    }
+
+    public MaterialCategoryResponseDto getOrThrow(Long categoryId) {
+        return find(categoryId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
+    }
+
+    // Caffeine 캐시와 같은 이름의 지표로 노출 (cache=materialCategory)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", "materialCategory").tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", "materialCategory").tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.refreshes", refreshes, LongAdder::sum)
+                .tag("cache", "materialCategory")
+                .register(registry);
+        Gauge.builder("cache.size", this, MaterialCategoryRegistry::currentSize)
+                .tag("cache", "materialCategory")
+                .register(registry);
+    }
+
+    public CacheStatsDto stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requestCount = hitCount + missCount;
+
+        return CacheStatsDto.builder()
+                .name("materialCategory")
+                .size(currentSize())
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRatio(requestCount == 0 ? 1.0 : (double) hitCount / requestCount)
+                .refreshCount(refreshes.sum())
+                .build();
+    }
+
+    private int currentSize() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.categories().size();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // 인스턴스와 상관없이 같은 카테고리 목록이면 같은 값 (ETag 에 포함)
+    private int contentHash(List<MaterialCategoryResponseDto> categories) {
+        int hash = 1;
+        for (MaterialCategoryResponseDto category : categories) {
+            hash = 31 * hash + Objects.hash(category.getId(), category.getName(), category.getCode());
+        }
+        return hash;
+    }
+
+    private MaterialCategoryResponseDto convertToDto(MaterialCategory category) {
+        return MaterialCategoryResponseDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .code(category.getCode())
+                .build();
+    }
+
+    private record Snapshot(List<MaterialCategoryResponseDto> categories,
+                            Map<Long, MaterialCategoryResponseDto> byId) {
+
+        Snapshot(List<MaterialCategoryResponseDto> categories) {
+            this(categories, categories.stream()
+                    .collect(Collectors.toUnmodifiableMap(MaterialCategoryResponseDto::getId, Function.identity())));
+        }
+    }
+}
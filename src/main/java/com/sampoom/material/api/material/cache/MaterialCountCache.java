@@ -0,0 +1,156 @@
+package com.sampoom.material.api.material.cache;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 전체/카테고리별/검색어별 자재 건수 캐시.
+ * 최초 요청 시 한 번만 COUNT 쿼리를 실행하고, 이후에는 자재 변경 이벤트로 증분 갱신한다.
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 전달되므로, 다른 인스턴스의 변경이나 이벤트 없이 들어간 행으로 생긴
+ * 오차는 expire-after-write 가 지나 다시 COUNT 할 때 바로잡힌다.
+ */
+@Component
+public class MaterialCountCache {
+
+    // 검색어별 건수는 키 공간이 열려 있으므로 상한을 둔다
+    private static final int MAX_KEYWORD_ENTRIES = 1000;
+
+    private static final String TOTAL_KEY = "";
+
+    private final MaterialRepository materialRepository;
+
+    // 이 시간이 지난 건수는 버리고 다시 계산한다 (다른 인스턴스의 변경이 반영되는 최대 지연)
+    private final long expireAfterWriteNanos;
+
+    private final Map<String, Count> totalCount = new ConcurrentHashMap<>();
+    private final Map<Long, Count> categoryCounts = new ConcurrentHashMap<>();
+    private final Map<String, Count> keywordCounts = new ConcurrentHashMap<>();
+
+    // COUNT 쿼리 도중 변경이 커밋되면 그 결과를 캐시하지 않기 위한 변경 카운터
+    private final AtomicLong modifications = new AtomicLong();
+
+    public MaterialCountCache(MaterialRepository materialRepository,
+                              @Value("${material.cache.count.expire-after-write:1m}") Duration expireAfterWrite) {
+        this.materialRepository = materialRepository;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+    }
+
+    public long countAll() {
+        return load(totalCount, TOTAL_KEY, materialRepository::count);
+    }
+
+    public long countByCategory(Long categoryId) {
+        return load(categoryCounts, categoryId, () -> materialRepository.countByMaterialCategoryId(categoryId));
+    }
+
+    public long countByKeyword(String keyword) {
+        return countByKeyword(keyword,
+                () -> materialRepository.countByNameContainingIgnoreCaseOrMaterialCodeContainingIgnoreCase(keyword, keyword));
+    }
+
+    /**
+     * 검색 색인처럼 DB 와 같은 기준(이름/코드 부분 일치, 대소문자 무시)으로 세는 counter 를 받아 건수를 캐시한다.
+     * 캐시 항목은 DB COUNT 로 구한 것과 공유된다.
+     */
+    public long countByKeyword(String keyword, LongSupplier counter) {
+        long count = load(keywordCounts, normalize(keyword), counter);
+        evictOverflow();
+        return count;
+    }
+
+    public void clear() {
+        modifications.incrementAndGet();
+        totalCount.clear();
+        categoryCounts.clear();
+        keywordCounts.clear();
+    }
+
+    @TransactionalEventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        modifications.incrementAndGet();
+        apply(event.getBefore(), -1);
+        apply(event.getAfter(), 1);
+    }
+
+    private void apply(MaterialResponseDto material, long delta) {
+        if (material == null) {
+            return;
+        }
+        Count total = totalCount.get(TOTAL_KEY);
+        if (total != null) {
+            total.value.addAndGet(delta);
+        }
+        Count category = categoryCounts.get(material.getMaterialCategoryId());
+        if (category != null) {
+            category.value.addAndGet(delta);
+        }
+        keywordCounts.forEach((keyword, count) -> {
+            if (matches(material, keyword)) {
+                count.value.addAndGet(delta);
+            }
+        });
+    }
+
+    private <K> long load(Map<K, Count> cache, K key, LongSupplier counter) {
+        Count cached = cache.get(key);
+        long now = System.nanoTime();
+        if (cached != null) {
+            if (now - cached.loadedAt < expireAfterWriteNanos) {
+                return cached.value.get();
+            }
+            // 만료된 항목은 이 시점의 값과 같을 때만 제거 (다른 스레드가 방금 다시 적재한 항목은 유지)
+            cache.remove(key, cached);
+        }
+        long version = modifications.get();
+        long count = counter.getAsLong();
+        // 조회 중 변경이 없었던 경우에만 캐시 (있었다면 다음 요청에서 다시 계산)
+        if (modifications.get() == version) {
+            cache.putIfAbsent(key, new Count(count, now));
+        }
+        return count;
+    }
+
+    private void evictOverflow() {
+        Iterator<String> keys = keywordCounts.keySet().iterator();
+        while (keywordCounts.size() > MAX_KEYWORD_ENTRIES && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    // DB 의 LOWER(..) LIKE '%kw%' 와 같은 기준으로 비교
+    private boolean matches(MaterialResponseDto material, String keyword) {
+        return contains(material.getName(), keyword) || contains(material.getMaterialCode(), keyword);
+    }
+
+    private boolean contains(String value, String keyword) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    private String normalize(String keyword) {
+        return keyword.toLowerCase(Locale.ROOT);
+    }
+
+    // 증분 갱신되는 건수 + 최초 적재 시각 (만료 판단용, System.nanoTime 기준)
+    private static final class Count {
+        private final AtomicLong value;
+        private final long loadedAt;
+
+        private Count(long value, long loadedAt) {
+            this.value = new AtomicLong(value);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
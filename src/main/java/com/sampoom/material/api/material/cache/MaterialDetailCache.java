@@ -0,0 +1,123 @@
+package com.sampoom.material.api.material.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sampoom.material.api.material.dto.CacheStatsDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 자재 상세 조회 read-through 캐시.
+ * 용량 상한(W-TinyLFU 제거)과 TTL 을 두고, 수정/삭제가 커밋되면 해당 항목을 무효화한다.
+ * 존재하지 않는 ID 는 캐시하지 않는다.
+ */
+@Component
+public class MaterialDetailCache implements MeterBinder {
+
+    private final LoadingCache<Long, MaterialResponseDto> cache;
+
+    public MaterialDetailCache(MaterialRepository materialRepository,
+                               @Value("${material.cache.detail.maximum-size:10000}") long maximumSize,
+                               @Value("${material.cache.detail.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new DetailLoader(materialRepository));
+    }
+
+    public Optional<MaterialResponseDto> get(Long id) {
+        return Optional.ofNullable(cache.get(id));
+    }
+
+    /**
+     * 캐시에 있는 항목은 그대로 쓰고, 없는 ID 만 IN 조회로 한꺼번에 적재한다.
+     * 존재하지 않는 ID 는 결과 Map 에 포함되지 않는다.
+     */
+    public Map<Long, MaterialResponseDto> getAll(Collection<Long> ids) {
+        return cache.getAll(ids);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    @TransactionalEventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        // 생성은 아직 캐시에 없으므로 수정/삭제만 무효화
+        if (event.getBefore() != null) {
+            cache.invalidate(event.getMaterialId());
+        }
+    }
+
+    // cache.gets / cache.evictions / cache.load.duration 등 (cache=materialDetail)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "materialDetail");
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .name("materialDetail")
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+
+    private static class DetailLoader implements CacheLoader<Long, MaterialResponseDto> {
+
+        // IN 절 바인드 변수 수 제한을 넘지 않도록 나눠서 조회
+        private static final int IN_CHUNK_SIZE = 1000;
+
+        private final MaterialRepository materialRepository;
+
+        DetailLoader(MaterialRepository materialRepository) {
+            this.materialRepository = materialRepository;
+        }
+
+        @Override
+        public MaterialResponseDto load(Long id) {
+            return materialRepository.findDtoById(id).orElse(null);
+        }
+
+        @Override
+        public Map<Long, MaterialResponseDto> loadAll(Set<? extends Long> ids) {
+            List<Long> pending = new ArrayList<>(ids);
+            Map<Long, MaterialResponseDto> loaded = new HashMap<>(pending.size() * 2);
+            for (int from = 0; from < pending.size(); from += IN_CHUNK_SIZE) {
+                List<Long> chunk = pending.subList(from, Math.min(from + IN_CHUNK_SIZE, pending.size()));
+                for (MaterialResponseDto material : materialRepository.findDtosByIdIn(chunk)) {
+                    loaded.put(material.getId(), material);
+                }
+            }
+            return loaded;
+        }
+    }
+}
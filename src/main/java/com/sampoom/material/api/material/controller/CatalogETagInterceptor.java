@@ -0,0 +1,43 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.cache.CatalogVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 자재 조회 API 의 조건부 GET 처리.
+ * 카탈로그 버전(공유 리비전 + 카테고리)을 약한 ETag 로 내려주고, If-None-Match 가 현재 버전과 같으면
+ * 컨트롤러를 호출하지 않고 바로 304 를 응답한다 (쿼리/직렬화 없음).
+ * - 같은 리비전까지 반영한 인스턴스는 같은 ETag 를 내려주므로 로드밸런서 뒤에서도 재검증이 맞는다.
+ * - gzip/원본 응답은 바이트가 달라 강한 ETag 를 같이 쓸 수 없으므로 의미상 동일함을 나타내는 약한 ETag 를 쓴다.
+ * 버전은 조회 전에 읽으므로, 조회 도중 변경이 커밋되어도 다음 요청에서는 새 ETag 가 나간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        // 브라우저도 저장은 하되 매번 재검증하도록 한다
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // 기동 직후 리비전을 읽기 전에는 ETag 없이 응답
+        String etag = catalogVersion.etag();
+        if (etag == null) {
+            return true;
+        }
+        // ETag 헤더 설정 + If-None-Match 일치 시 304 상태 설정 (약한 비교)
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
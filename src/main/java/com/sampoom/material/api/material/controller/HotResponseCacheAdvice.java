@@ -0,0 +1,88 @@
+package com.sampoom.material.api.material.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.material.api.material.cache.CatalogVersion;
+import com.sampoom.material.api.material.cache.HotResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * HotResponseCacheInterceptor 가 캐시 대상으로 표시한 요청의 응답 본문을 직렬화해 저장한다.
+ * 캐시 미스에서도 본문은 한 번만 직렬화한다: 저장한 바이트를 직접 쓰고 null 을 돌려줘
+ * 메시지 컨버터가 같은 본문을 다시 직렬화하지 않게 한다. 이후 요청은 인터셉터가 저장된 바이트로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = MaterialController.class)
+@RequiredArgsConstructor
+public class HotResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final HotResponseCache responseCache;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String key = (String) httpRequest.getAttribute(HotResponseCacheInterceptor.KEY_ATTRIBUTE);
+        Long version = (Long) httpRequest.getAttribute(HotResponseCacheInterceptor.VERSION_ATTRIBUTE);
+        if (key == null || version == null || servletResponse.getServletResponse().getStatus() != 200) {
+            return body;
+        }
+
+        // 조회 도중 변경이 커밋됐다면 어느 버전의 데이터인지 알 수 없으므로 저장하지 않는다
+        if (catalogVersion.current() != version) {
+            return body;
+        }
+        HotResponseCache.Entry entry;
+        try {
+            entry = responseCache.put(key, version, selectedContentType.toString(), objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache response. key={}", key, e);
+            return body;
+        }
+
+        // Vary 는 인터셉터가 이미 붙였다
+        boolean gzip = HotResponseCacheInterceptor.acceptsGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] bytes = gzip ? entry.gzip() : entry.plain();
+        HttpHeaders headers = servletResponse.getHeaders();
+        headers.setContentType(selectedContentType);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.setContentLength(bytes.length);
+        try {
+            servletResponse.getBody().write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // null 이면 컨버터가 본문을 쓰지 않는다
+        return null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.cache.CatalogVersion;
+import com.sampoom.material.api.material.cache.HotResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Locale;
+
+/**
+ * 카테고리 목록과 목록 첫 페이지 요청을 HotResponseCache 의 바이트로 바로 응답한다.
+ * 캐시에 없으면 요청 속성에 키/버전을 남기고 컨트롤러로 넘기며,
+ * 직렬화 결과는 HotResponseCacheAdvice 가 저장하고 그 바이트로 응답한다.
+ * 캐시 대상 응답은 적중 여부와 상관없이 Accept-Encoding 에 따라 달라질 수 있으므로 항상 Vary 를 붙인다.
+ * CatalogETagInterceptor 뒤에 등록되므로 304 는 그쪽에서 먼저 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String KEY_ATTRIBUTE = HotResponseCacheInterceptor.class.getName() + ".key";
+    static final String VERSION_ATTRIBUTE = HotResponseCacheInterceptor.class.getName() + ".version";
+
+    // 이보다 큰 페이지는 재사용될 가능성이 낮아 캐시하지 않는다
+    private static final int MAX_CACHED_PAGE_SIZE = 100;
+
+    private final HotResponseCache responseCache;
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String key = cacheKey(request);
+        if (key == null) {
+            return true;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        long version = catalogVersion.current();
+        HotResponseCache.Entry entry = responseCache.get(key, version);
+        if (entry == null) {
+            request.setAttribute(KEY_ATTRIBUTE, key);
+            request.setAttribute(VERSION_ATTRIBUTE, version);
+            return true;
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? entry.gzip() : entry.plain();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return false;
+    }
+
+    /**
+     * 캐시 대상이면 경로 + 정규화한 파라미터로 키를 만든다. 대상이 아니면 null.
+     * - /api/materials/category                  : 파라미터 없음
+     * - /api/materials, /api/materials/category/{id} : page=0, size <= 100, withTotal 만 허용
+     */
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/api/materials/category")) {
+            return request.getParameterMap().isEmpty() ? path : null;
+        }
+
+        String page = "0";
+        String size = "10";
+        String withTotal = "true";
+        Enumeration<String> names = request.getParameterNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            String value = request.getParameter(name);
+            switch (name) {
+                case "page" -> page = value;
+                case "size" -> size = value;
+                case "withTotal" -> withTotal = value;
+                default -> {
+                    // after(커서), keyword 등 다른 파라미터가 있으면 캐시하지 않는다
+                    return null;
+                }
+            }
+        }
+        if (!"0".equals(page) || !isCacheableSize(size)) {
+            return null;
+        }
+        return path + "?size=" + size + "&withTotal=" + Boolean.parseBoolean(withTotal);
+    }
+
+    private boolean isCacheableSize(String size) {
+        try {
+            int value = Integer.parseInt(size);
+            return value > 0 && value <= MAX_CACHED_PAGE_SIZE;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 (RFC 9110 12.5.3).
+     * "gzip;q=0" 처럼 q 가 0 이면 거부로 보고, gzip 이 없으면 "*" 의 q 값을 따른다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return quality > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // 형식이 잘못된 q 값은 허용하지 않는 것으로 본다
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.cache.HotResponseCache;
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.CacheStatsDto;
+import com.sampoom.material.common.response.ApiResponse;
+import com.sampoom.material.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "MaterialCache", description = "자재 캐시 상태 조회 API 입니다.")
+@RestController
+@RequestMapping("/api/materials/caches")
+@RequiredArgsConstructor
+public class MaterialCacheController {
+
+    private final MaterialCategoryRegistry categoryRegistry;
+    private final MaterialDetailCache detailCache;
+    private final HotResponseCache responseCache;
+
+    @Operation(summary = "캐시 통계 조회", description = "자재 관련 캐시의 적중률, 제거 횟수, 평균 적재 시간을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatsDto>>> getCacheStats() {
+        return ApiResponse.success(SuccessStatus.OK, List.of(categoryRegistry.stats(), detailCache.stats(), responseCache.stats()));
+    }
+}
@@ -1,20 +1,38 @@
 package com.sampoom.material.api.material.controller;
 
+import com.sampoom.material.api.material.dto.CursorResponseDto;
+import com.sampoom.material.api.material.dto.MaterialBatchGetRequestDto;
+import com.sampoom.material.api.material.dto.MaterialBatchItemDto;
+import com.sampoom.material.api.material.dto.MaterialBulkDeleteRequestDto;
+import com.sampoom.material.api.material.dto.MaterialBulkUpdateRequestDto;
 import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.dto.MaterialChangesResponseDto;
+import com.sampoom.material.api.material.dto.MaterialImportJobDto;
+import com.sampoom.material.api.material.dto.MaterialPatchRequestDto;
 import com.sampoom.material.api.material.dto.MaterialRequestDto;
 import com.sampoom.material.api.material.dto.MaterialResponseDto;
 import com.sampoom.material.api.material.dto.PageResponseDto;
+import com.sampoom.material.api.material.export.MaterialExportFormat;
+import com.sampoom.material.api.material.export.MaterialExportService;
+import com.sampoom.material.api.material.importer.MaterialImportService;
+import com.sampoom.material.api.material.service.MaterialChangeService;
 import com.sampoom.material.api.material.service.MaterialService;
 import com.sampoom.material.common.response.ApiResponse;
 import com.sampoom.material.common.response.SuccessStatus;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,16 +40,66 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/materials")
 @RequiredArgsConstructor
+@Timed(value = "material.api", description = "MaterialController 메서드 실행 시간")
 public class MaterialController {
 
+    // 전체 내보내기 응답의 리비전 헤더: 이 값을 since 로 변경분 조회를 이어간다
+    public static final String REVISION_HEADER = "X-Material-Revision";
+
     private final MaterialService materialService;
+    private final MaterialImportService materialImportService;
+    private final MaterialExportService materialExportService;
+    private final MaterialChangeService materialChangeService;
 
-    @Operation(summary = "자재 목록 조회", description = "모든 자재 정보를 조회합니다.")
+    @Operation(summary = "자재 목록 조회", description = "모든 자재 정보를 조회합니다. withTotal=false 이면 총 건수 없이 hasNext 만 반환합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponseDto<MaterialResponseDto>>> getAllMaterials(
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.getAllMaterials(page, size, withTotal));
+    }
+
+    @Operation(summary = "자재 목록 커서 조회",
+            description = "after 커서 이후의 자재를 ID 순으로 조회합니다. 첫 페이지는 after 를 빈 값으로 호출하고, 응답의 nextCursor 를 다음 요청의 after 로 전달합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<CursorResponseDto<MaterialResponseDto>>> getAllMaterialsAfter(
+            @RequestParam String after,
             @RequestParam(defaultValue = "10") int size) {
-        return ApiResponse.success(SuccessStatus.OK, materialService.getAllMaterials(page, size));
+        return ApiResponse.success(SuccessStatus.OK, materialService.getAllMaterialsAfter(after, size));
+    }
+
+    @Operation(summary = "자재 전체 내보내기",
+            description = "전체 자재를 카테고리 정보와 함께 CSV(format=csv) 또는 NDJSON(format=ndjson) 으로 내려받습니다. " +
+                    "CSV 는 가져오기와 같은 컬럼 순서(id,category_id,category,code,name)입니다. " +
+                    "X-Material-Revision 헤더의 리비전을 since 로 변경분 조회를 이어가면 내보낸 이후의 변경을 빠짐없이 받습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMaterials(@RequestParam(defaultValue = "csv") String format) {
+        MaterialExportFormat exportFormat = MaterialExportFormat.from(format);
+        // 내보내기 조회보다 먼저 읽어야 내보낸 데이터가 이 리비전까지의 변경을 모두 포함한다
+        long revision = materialChangeService.currentRevision();
+        StreamingResponseBody body = out -> materialExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(REVISION_HEADER, Long.toString(revision))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("materials." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "자재 변경분 조회",
+            description = "since 리비전 이후에 생성/수정/삭제된 자재만 리비전 순으로 조회합니다. (size 최대 5,000) " +
+                    "hasNext 이면 nextCursor 를 cursor 로 전달해 이어서 조회하고, 마지막 페이지의 lastRevision 을 다음 동기화의 since 로 사용합니다. " +
+                    "최초 동기화는 since=0 으로 처음부터 조회하거나, 전체 내보내기 후 X-Material-Revision 헤더 값을 since 로 조회합니다. " +
+                    "since 가 보관 기간이 지나 정리된 이력보다 앞서면 410 을 반환하므로 전체 내보내기부터 다시 동기화합니다.")
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<MaterialChangesResponseDto>> getMaterialChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int size) {
+        return ApiResponse.success(SuccessStatus.OK, materialChangeService.getChanges(since, cursor, size));
     }
 
     @Operation(summary = "자재 상세 조회", description = "자재 ID로 특정 자재 정보를 조회합니다.")
@@ -40,6 +108,13 @@ public class MaterialController {
         return ApiResponse.success(SuccessStatus.OK, materialService.getMaterialById(id));
     }
 
+    @Operation(summary = "자재 다건 조회",
+            description = "자재 ID 목록(최대 5,000건)을 한 번에 조회합니다. 결과는 요청 순서를 따르며, 없는 자재는 found=false 로 표시됩니다.")
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponse<List<MaterialBatchItemDto>>> getMaterialsByIds(@RequestBody MaterialBatchGetRequestDto requestDto) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.getMaterialsByIds(requestDto.getIds()));
+    }
+
     @Operation(summary = "자재 등록", description = "새로운 자재를 등록합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<MaterialResponseDto>> createMaterial(@RequestBody MaterialRequestDto materialDto) {
@@ -47,6 +122,32 @@ public class MaterialController {
         return ApiResponse.success(SuccessStatus.CREATED,materialService.createMaterial(materialDto));
     }
 
+    @Operation(summary = "자재 대량 등록", description = "여러 자재를 한 번에 등록합니다. (최대 10,000건)")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<MaterialResponseDto>>> createMaterials(@RequestBody List<MaterialRequestDto> requestDtos) {
+        return ApiResponse.success(SuccessStatus.CREATED, materialService.createMaterials(requestDtos));
+    }
+
+    @Operation(summary = "자재 CSV 가져오기",
+            description = "materials_master_cleaned.csv 와 같은 형식(id,category_id,category,code,name)의 CSV 를 업로드해 자재를 등록합니다. " +
+                    "id / code 컬럼은 무시되고 새로 발급됩니다. 작업 ID 를 바로 반환하며 진행 상황은 작업 조회 API 로 확인합니다.")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<MaterialImportJobDto>> importMaterials(@RequestParam("file") MultipartFile file) {
+        return ApiResponse.success(SuccessStatus.ACCEPTED, materialImportService.start(file));
+    }
+
+    @Operation(summary = "자재 CSV 가져오기 작업 조회", description = "가져오기 작업의 진행 상황과 행별 오류를 조회합니다.")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<MaterialImportJobDto>> getImportJob(@PathVariable("jobId") String jobId) {
+        return ApiResponse.success(SuccessStatus.OK, materialImportService.getJob(jobId));
+    }
+
+    @Operation(summary = "자재 대량 수정", description = "여러 자재 정보를 한 번에 수정합니다. (최대 10,000건)")
+    @PutMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<MaterialResponseDto>>> updateMaterials(@RequestBody List<MaterialBulkUpdateRequestDto> requestDtos) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.updateMaterials(requestDtos));
+    }
+
     @Operation(summary = "자재 수정", description = "기존 자재 정보를 수정합니다.")
     @PutMapping("/{materialId}")
     public ResponseEntity<ApiResponse<MaterialResponseDto>> updateMaterial(@PathVariable("materialId") Long id, @RequestBody MaterialRequestDto requestDto) {
@@ -54,20 +155,45 @@ public class MaterialController {
         return ApiResponse.success(SuccessStatus.OK,materialService.updateMaterial(id, requestDto));
     }
 
-    @Operation(summary = "자재 삭제", description = "자재를 삭제합니다.")
+    @Operation(summary = "자재 부분 수정",
+            description = "요청에 포함된 필드(name, materialCategoryId)만 수정합니다. " +
+                    "조회 시 받은 version 을 함께 보내면 그 사이 다른 수정이 있었을 때 409 를 반환합니다.")
+    @PatchMapping("/{materialId}")
+    public ResponseEntity<ApiResponse<MaterialResponseDto>> patchMaterial(@PathVariable("materialId") Long id, @RequestBody MaterialPatchRequestDto requestDto) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.patchMaterial(id, requestDto));
+    }
+
+    @Operation(summary = "자재 삭제", description = "자재를 삭제합니다. 삭제된 자재는 보관 기간 동안 툼스톤으로 남아 조회 시 410 을 반환합니다.")
     @DeleteMapping("/{materialId}")
     public ResponseEntity<ApiResponse<Void>> deleteMaterial(@PathVariable("materialId") Long id) {
         materialService.deleteMaterial(id);
         return ApiResponse.success_only(SuccessStatus.OK);
     }
 
-    @Operation(summary = "카테고리별 자재 조회", description = "특정 카테고리에 속한 자재를 조회합니다.")
+    @Operation(summary = "자재 대량 삭제",
+            description = "자재 ID 목록(최대 10,000건)을 한 번에 삭제합니다. 없거나 이미 삭제된 ID 는 무시하고, 삭제된 ID 목록을 반환합니다.")
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponse<List<Long>>> deleteMaterials(@RequestBody MaterialBulkDeleteRequestDto requestDto) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.deleteMaterials(requestDto.getIds()));
+    }
+
+    @Operation(summary = "카테고리별 자재 조회", description = "특정 카테고리에 속한 자재를 조회합니다. withTotal=false 이면 총 건수 없이 hasNext 만 반환합니다.")
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<ApiResponse<PageResponseDto<MaterialResponseDto>>> getMaterialsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.getMaterialsByCategory(categoryId, page, size, withTotal));
+    }
+
+    @Operation(summary = "카테고리별 자재 커서 조회", description = "특정 카테고리에 속한 자재를 after 커서 이후부터 ID 순으로 조회합니다.")
+    @GetMapping(value = "/category/{categoryId}", params = "after")
+    public ResponseEntity<ApiResponse<CursorResponseDto<MaterialResponseDto>>> getMaterialsByCategoryAfter(
+            @PathVariable Long categoryId,
+            @RequestParam String after,
             @RequestParam(defaultValue = "10") int size) {
-        return ApiResponse.success(SuccessStatus.OK, materialService.getMaterialsByCategory(categoryId, page, size));
+        return ApiResponse.success(SuccessStatus.OK, materialService.getMaterialsByCategoryAfter(categoryId, after, size));
     }
 
     @Operation(summary = "카테고리 목록 조회", description = "모든 자재 카테고리를 조회합니다.")
@@ -76,13 +202,33 @@ public class MaterialController {
         return ApiResponse.success(SuccessStatus.OK, materialService.getAllCategories());
     }
 
-    @Operation(summary = "자재 검색", description = "자재명 또는 자재 코드로 자재를 검색합니다.")
+    @Operation(summary = "자재 검색", description = "자재명 또는 자재 코드로 자재를 검색합니다. withTotal=false 이면 총 건수 없이 hasNext 만 반환합니다.")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponseDto<MaterialResponseDto>>> searchMaterials(
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.searchMaterials(keyword, page, size, withTotal));
+    }
+
+    @Operation(summary = "자재 초성/자모 검색",
+            description = "초성(ㄴㄱㅇㅇ) 또는 입력 중인 글자(냉가, 냉간ㅇ)로 자재명을 검색합니다. 결과는 일치 품질 순으로 정렬됩니다.")
+    @GetMapping("/search/hangul")
+    public ResponseEntity<ApiResponse<PageResponseDto<MaterialResponseDto>>> searchMaterialsByHangul(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.success(SuccessStatus.OK, materialService.searchMaterialsByHangul(keyword, page, size));
+    }
+
+    @Operation(summary = "자재 커서 검색", description = "자재명 또는 자재 코드로 검색하며, after 커서 이후부터 자재명 순으로 조회합니다.")
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<ApiResponse<CursorResponseDto<MaterialResponseDto>>> searchMaterialsAfter(
+            @RequestParam(required = false) String keyword,
+            @RequestParam String after,
             @RequestParam(defaultValue = "10") int size) {
-        return ApiResponse.success(SuccessStatus.OK, materialService.searchMaterials(keyword, page, size));
+        return ApiResponse.success(SuccessStatus.OK, materialService.searchMaterialsAfter(keyword, after, size));
     }
 
 
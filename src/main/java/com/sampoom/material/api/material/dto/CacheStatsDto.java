@@ -0,0 +1,21 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private String name;             // 캐시 이름
+    private long size;               // 현재 적재 건수
+    private long hitCount;           // 적중 횟수
+    private long missCount;          // 미적중 횟수
+    private double hitRatio;         // 적중률 (0.0 ~ 1.0)
+    private long evictionCount;      // 제거(용량/만료) 횟수
+    private long refreshCount;       // 스냅샷 갱신 횟수
+    private double averageLoadMillis; // 미적중 시 평균 적재 시간 (ms)
+}
@@ -0,0 +1,16 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialBatchGetRequestDto {
+    private List<Long> ids;
+}
@@ -0,0 +1,19 @@
+package com.sampoom.material.api.material.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MaterialBatchItemDto {
+    private Long id;                       // 요청한 자재 ID
+    private boolean found;                 // 존재 여부 (false 이면 material 생략)
+    private boolean deleted;               // 삭제된 자재(툼스톤) 여부
+    private MaterialResponseDto material;
+}
@@ -0,0 +1,16 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialBulkUpdateRequestDto {
+    private Long id;
+    private String name;
+    private Long materialCategoryId;
+}
@@ -0,0 +1,20 @@
+package com.sampoom.material.api.material.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MaterialChangeDto {
+    private long revision;                 // 변경이 커밋된 리비전
+    private Long materialId;
+    private MaterialChangeType type;       // UPSERT / DELETE
+    private MaterialResponseDto material;  // UPSERT 인 경우 현재 상태 (DELETE 이면 생략)
+}
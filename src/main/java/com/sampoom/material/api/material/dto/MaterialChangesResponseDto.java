@@ -0,0 +1,19 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialChangesResponseDto {
+    private List<MaterialChangeDto> changes;
+    private String nextCursor;       // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private long lastRevision;       // 이 응답까지 반영한 리비전 (마지막 페이지면 다음 동기화의 since 로 사용)
+}
@@ -0,0 +1,15 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialImportErrorDto {
+    private long line;       // CSV 파일 기준 행 번호 (헤더 포함, 1부터)
+    private String message;  // 실패 사유
+}
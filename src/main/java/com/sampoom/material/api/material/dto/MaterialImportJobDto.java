@@ -0,0 +1,32 @@
+package com.sampoom.material.api.material.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MaterialImportJobDto {
+    private String jobId;
+    private String fileName;
+    private String status;                      // RUNNING / COMPLETED / FAILED
+    private long readRows;                      // 읽은 데이터 행 수
+    private long importedRows;                  // 저장된 행 수
+    private long failedRows;                    // 검증/저장 실패 행 수
+    private List<MaterialImportErrorDto> errors; // 행별 오류 (최대 건수까지만 보관)
+    private boolean errorsTruncated;            // 보관 한도를 넘어 생략된 오류가 있는지
+    private String message;                     // 작업 전체 실패 사유
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime startedAt;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,16 @@
+package com.sampoom.material.api.material.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialPatchRequestDto {
+    private String name;                 // null 이면 변경하지 않음
+    private Long materialCategoryId;     // null 이면 변경하지 않음
+    private Long version;                // 조회 시 받은 버전 (다르면 409, null 이면 확인하지 않음)
+}
@@ -12,4 +12,5 @@ public class MaterialResponseDto {
     private String materialCode;
     private Long materialCategoryId;
     private String materialCategoryName;
+    private Long version;              // 낙관적 잠금 버전 (PATCH 요청에 그대로 전달)
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sampoom.material.api.material.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,8 +12,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponseDto<T> {
     private List<T> content;         // 실제 데이터
-    private long totalElements;      // 총 요소 수
-    private int totalPages;          // 총 페이지 수
-}
\ No newline at end of file
+    private Long totalElements;      // 총 요소 수 (withTotal=false 이면 생략)
+    private Integer totalPages;      // 총 페이지 수 (withTotal=false 이면 생략)
+    private boolean hasNext;         // 다음 페이지 존재 여부
+}
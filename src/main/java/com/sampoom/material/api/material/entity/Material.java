@@ -1,21 +1,35 @@
 package com.sampoom.material.api.material.entity;
 
+import com.sampoom.material.common.entitiy.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Entity
+// 스키마와 인덱스는 Flyway 마이그레이션(db/migration)에서만 관리한다
 @Table(name = "material")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Material {
+// 변경된 컬럼만 UPDATE 한다 (부분 수정 시 전체 컬럼을 다시 쓰지 않도록)
+@DynamicUpdate
+// 소프트 삭제된 행은 엔티티/JPQL 조회에서 제외한다 (네이티브 쿼리에는 적용되지 않음)
+@SQLRestriction("deleted = false")
+public class Material extends BaseTimeEntity {
 
+    // IDENTITY 는 INSERT 배치가 불가능하므로 풀링 시퀀스 사용 (50개 단위로 미리 할당)
+    // 기존 DB 의 시퀀스는 Flyway afterMigrate 콜백이 최대 ID 이후로 맞춘다 (db/migration/postgresql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "material_seq")
+    @SequenceGenerator(name = "material_seq", sequenceName = "material_seq", allocationSize = 50)
     @Column(name = "material_id")
     private Long id;
 
@@ -28,4 +42,34 @@ public class Material {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "material_category_id")
     private MaterialCategory materialCategory;
+
+    // 낙관적 잠금: UPDATE ... WHERE version = ? 로 동시 수정 덮어쓰기를 막는다 (기존 행은 0 으로 채워진다)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 소프트 삭제 표시 (툼스톤). 보관 기간이 지나면 MaterialTombstonePurger 가 물리 삭제한다
+    @ColumnDefault("false")
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 관리 상태 엔티티를 직접 변경해 dirty checking 으로 UPDATE 되도록 한다
+    public void update(String name, String materialCode, MaterialCategory materialCategory) {
+        this.name = name;
+        this.materialCode = materialCode;
+        this.materialCategory = materialCategory;
+    }
+
+    public void rename(String name) {
+        this.name = name;
+    }
+
+    public void changeCategory(String materialCode, MaterialCategory materialCategory) {
+        this.materialCode = materialCode;
+        this.materialCategory = materialCategory;
+    }
 }
\ No newline at end of file
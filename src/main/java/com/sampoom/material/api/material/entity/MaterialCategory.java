@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class MaterialCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "material_category_seq")
+    @SequenceGenerator(name = "material_category_seq", sequenceName = "material_category_seq", allocationSize = 50)
     @Column(name = "material_category_id")
     private Long id;
 
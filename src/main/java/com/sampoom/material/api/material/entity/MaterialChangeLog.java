@@ -0,0 +1,45 @@
+package com.sampoom.material.api.material.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자재 변경 이력. 한 트랜잭션에서 바뀐 자재들은 같은 revision 을 가진다.
+ * 삭제된 자재도 DELETE 행(툼스톤)으로 남아 다른 서비스가 삭제를 동기화할 수 있다.
+ */
+@Entity
+@Table(name = "material_change_log")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "material_change_log_seq")
+    @SequenceGenerator(name = "material_change_log_seq", sequenceName = "material_change_log_seq", allocationSize = 50)
+    @Column(name = "material_change_log_id")
+    private Long id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    // DB 종류와 상관없이 VARCHAR 로 매핑 (마이그레이션 스키마와 일치)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private MaterialChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
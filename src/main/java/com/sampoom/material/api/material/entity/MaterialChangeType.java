@@ -0,0 +1,6 @@
+package com.sampoom.material.api.material.entity;
+
+public enum MaterialChangeType {
+    UPSERT,  // 생성 또는 수정
+    DELETE   // 삭제 (툼스톤)
+}
@@ -0,0 +1,45 @@
+package com.sampoom.material.api.material.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자재 변경 이벤트 아웃박스.
+ * 변경과 같은 트랜잭션에서 기록되고, MaterialOutboxRelay 가 발행한 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "material_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "material_outbox_seq")
+    @SequenceGenerator(name = "material_outbox_seq", sequenceName = "material_outbox_seq", allocationSize = 50)
+    @Column(name = "material_outbox_id")
+    private Long id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    // DB 종류와 상관없이 VARCHAR 로 매핑 (마이그레이션 스키마와 일치)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private MaterialChangeType changeType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
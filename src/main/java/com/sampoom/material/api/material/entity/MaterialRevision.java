@@ -0,0 +1,37 @@
+package com.sampoom.material.api.material.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자재 카탈로그 리비전 카운터 (단일 행).
+ * 변경을 커밋하는 트랜잭션이 커밋 직전에 이 행을 잠그고 1 증가시키므로,
+ * 리비전 순서가 커밋 순서와 같고 먼저 발급된 리비전이 늦게 보이는 일이 없다.
+ */
+@Entity
+@Table(name = "material_revision")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialRevision {
+
+    public static final long ROW_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    // 이 리비전 이하의 DELETE 이력 일부는 보관 기간이 지나 지워졌다 (MaterialChangeLogCompactor)
+    @Column(name = "compacted_revision", nullable = false)
+    private long compactedRevision;
+
+    public long next() {
+        return ++this.revision;
+    }
+}
@@ -0,0 +1,158 @@
+package com.sampoom.material.api.material.event;
+
+import com.sampoom.material.api.material.cache.CatalogVersion;
+import com.sampoom.material.api.material.entity.MaterialChangeLog;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialOutboxEvent;
+import com.sampoom.material.api.material.entity.MaterialRevision;
+import com.sampoom.material.api.material.repository.MaterialChangeLogRepository;
+import com.sampoom.material.api.material.repository.MaterialOutboxEventRepository;
+import com.sampoom.material.api.material.repository.MaterialRevisionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자재 변경 이력 기록.
+ * 트랜잭션 안에서 발생한 변경을 자재 ID 별로 모아 두었다가, 커밋 직전에 리비전을 하나 발급받아
+ * 같은 트랜잭션으로 material_change_log 에 저장한다 (이력과 데이터가 함께 커밋/롤백된다).
+ * 아웃박스가 켜져 있으면 같은 리비전으로 material_outbox 에도 기록해 MaterialOutboxRelay 가 발행하도록 한다.
+ * 커밋 후에는 (캐시/색인 무효화가 끝난 뒤) 발급한 리비전을 CatalogVersion 에 알려 ETag 를 바로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterialChangeTracker {
+
+    private final MaterialRevisionRepository revisionRepository;
+    private final MaterialChangeLogRepository changeLogRepository;
+    private final MaterialOutboxEventRepository outboxRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersion catalogVersion;
+
+    // 영속성 컨텍스트를 비우는 단위 (JDBC 배치 크기와 맞춘다)
+    @Value("${material.jpa.batch-size:500}")
+    private int chunkSize;
+
+    @Value("${material.outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    // 카운터 행을 미리 만들어 두어 첫 변경 트랜잭션끼리 행 생성을 두고 충돌하지 않도록 한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRevision() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (revisionRepository.findById(MaterialRevision.ROW_ID).isEmpty()) {
+                    revisionRepository.saveAndFlush(MaterialRevision.builder()
+                            .id(MaterialRevision.ROW_ID)
+                            .revision(0)
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만든 경우
+            log.debug("Material revision row already initialized.");
+        }
+    }
+
+    // 트랜잭션 밖(이벤트를 직접 발행한 경우)에서는 기록하지 않는다
+    @EventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("Material change outside of a transaction is not tracked. materialId={}", event.getMaterialId());
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        // 같은 트랜잭션에서 여러 번 바뀐 자재는 마지막 상태만 남긴다
+        pending.changes.put(event.getMaterialId(),
+                event.getAfter() == null ? MaterialChangeType.DELETE : MaterialChangeType.UPSERT);
+    }
+
+    private long write(Map<Long, MaterialChangeType> changes) {
+        MaterialRevision counter = revisionRepository.findForUpdate(MaterialRevision.ROW_ID)
+                .orElseGet(() -> revisionRepository.saveAndFlush(MaterialRevision.builder()
+                        .id(MaterialRevision.ROW_ID)
+                        .revision(0)
+                        .build()));
+        long revision = counter.next();
+        LocalDateTime changedAt = LocalDateTime.now();
+
+        List<MaterialChangeLog> logs = new ArrayList<>(Math.min(chunkSize, changes.size()));
+        List<MaterialOutboxEvent> outbox = new ArrayList<>(outboxEnabled ? Math.min(chunkSize, changes.size()) : 0);
+        for (Map.Entry<Long, MaterialChangeType> change : changes.entrySet()) {
+            logs.add(MaterialChangeLog.builder()
+                    .revision(revision)
+                    .materialId(change.getKey())
+                    .changeType(change.getValue())
+                    .changedAt(changedAt)
+                    .build());
+            if (outboxEnabled) {
+                outbox.add(MaterialOutboxEvent.builder()
+                        .revision(revision)
+                        .materialId(change.getKey())
+                        .changeType(change.getValue())
+                        .createdAt(changedAt)
+                        .build());
+            }
+            if (logs.size() == chunkSize) {
+                saveChunk(logs, outbox);
+            }
+        }
+        if (!logs.isEmpty()) {
+            saveChunk(logs, outbox);
+        }
+        return revision;
+    }
+
+    private void saveChunk(List<MaterialChangeLog> logs, List<MaterialOutboxEvent> outbox) {
+        changeLogRepository.saveAll(logs);
+        outboxRepository.saveAll(outbox);
+        // 대량 변경에서도 영속성 컨텍스트가 커지지 않도록 (flush 후 비우므로 미반영 변경은 없다)
+        entityManager.flush();
+        entityManager.clear();
+        logs.clear();
+        outbox.clear();
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, MaterialChangeType> changes = new LinkedHashMap<>();
+        private long revision = -1;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!changes.isEmpty()) {
+                revision = write(changes);
+            }
+        }
+
+        // AFTER_COMMIT 리스너(캐시/색인 반영)는 afterCompletion 보다 먼저 실행된다
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MaterialChangeTracker.this);
+            if (status == STATUS_COMMITTED && revision >= 0) {
+                catalogVersion.committed(revision);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sampoom.material.api.material.event;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자재 생성/수정/삭제 시 발행되는 이벤트.
+ * before/after 스냅샷으로 캐시·인덱스가 DB 재조회 없이 증분 갱신할 수 있도록 한다.
+ * - 생성: before == null
+ * - 삭제: after == null
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MaterialChangedEvent {
+
+    private final MaterialResponseDto before;
+    private final MaterialResponseDto after;
+
+    public static MaterialChangedEvent created(MaterialResponseDto after) {
+        return new MaterialChangedEvent(null, after);
+    }
+
+    public static MaterialChangedEvent updated(MaterialResponseDto before, MaterialResponseDto after) {
+        return new MaterialChangedEvent(before, after);
+    }
+
+    public static MaterialChangedEvent deleted(MaterialResponseDto before) {
+        return new MaterialChangedEvent(before, null);
+    }
+
+    public Long getMaterialId() {
+        return (after != null) ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sampoom.material.api.material.export;
+
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.response.ErrorStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum MaterialExportFormat {
+
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static MaterialExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_EXPORT_FORMAT);
+        }
+    }
+}
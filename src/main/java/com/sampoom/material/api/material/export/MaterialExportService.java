@@ -0,0 +1,101 @@
+package com.sampoom.material.api.material.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVWriter;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 자재 카탈로그 내보내기.
+ * DB 커서(fetch size 단위로 가져오는 forward-only 결과)를 그대로 응답 스트림에 쓰므로
+ * 카탈로그 크기와 상관없이 힙 사용량이 일정하다.
+ * 조회는 DTO 프로젝션이라 영속성 컨텍스트에 관리 엔티티가 쌓이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaterialExportService {
+
+    private static final String[] CSV_HEADER = {"id", "category_id", "category", "code", "name"};
+
+    // 클라이언트가 진행 상황을 볼 수 있도록 이 행 수마다 버퍼를 내보낸다
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MaterialRepository materialRepository;
+    private final ObjectMapper objectMapper;
+
+    // 스트림이 열려 있는 동안 커넥션/커서를 유지해야 하므로 트랜잭션 안에서 끝까지 쓴다
+    @Transactional(readOnly = true)
+    public long export(MaterialExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long rows;
+        try (Stream<MaterialResponseDto> materials = materialRepository.streamAllDtos()) {
+            rows = (format == MaterialExportFormat.CSV)
+                    ? writeCsv(materials.iterator(), out)
+                    : writeNdjson(materials.iterator(), out);
+        }
+        log.info("Material export completed. format={}, rows={}, elapsed={}ms",
+                format, rows, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+
+    // 가져오기 CSV 와 같은 컬럼 순서 (id,category_id,category,code,name)
+    private long writeCsv(Iterator<MaterialResponseDto> materials, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다 (가져오기 시에는 무시됨)
+        writer.write('\uFEFF');
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(CSV_HEADER, false);
+
+        String[] row = new String[CSV_HEADER.length];
+        long count = 0;
+        while (materials.hasNext()) {
+            MaterialResponseDto material = materials.next();
+            row[0] = String.valueOf(material.getId());
+            row[1] = String.valueOf(material.getMaterialCategoryId());
+            row[2] = material.getMaterialCategoryName();
+            row[3] = material.getMaterialCode();
+            row[4] = material.getName();
+            csvWriter.writeNext(row, false);
+            if (++count % FLUSH_INTERVAL == 0) {
+                csvWriter.flush();
+            }
+        }
+        // 응답 스트림은 컨테이너가 닫으므로 flush 만 한다
+        csvWriter.flush();
+        return count;
+    }
+
+    // 한 줄에 자재 하나씩 (MaterialResponseDto 와 같은 JSON 형태)
+    private long writeNdjson(Iterator<MaterialResponseDto> materials, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = 0;
+        while (materials.hasNext()) {
+            generator.writeObject(materials.next());
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.close();
+        return count;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sampoom.material.api.material.importer;
+
+import com.sampoom.material.api.material.dto.MaterialImportErrorDto;
+import com.sampoom.material.api.material.dto.MaterialImportJobDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CSV 가져오기 작업 하나의 진행 상태.
+ * 읽기 스레드와 저장 워커들이 동시에 갱신하므로 카운터는 원자 변수로 두고,
+ * 행별 오류는 maxErrors 건까지만 보관해 큰 파일에서도 메모리 사용량이 일정하도록 한다.
+ */
+public class MaterialImportJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String fileName;
+    private final int maxErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong readRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private final ConcurrentLinkedQueue<MaterialImportErrorDto> errors = new ConcurrentLinkedQueue<>();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    public MaterialImportJob(String id, String fileName, int maxErrors) {
+        this.id = id;
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    void rowRead() {
+        readRows.incrementAndGet();
+    }
+
+    void imported(int rows) {
+        importedRows.addAndGet(rows);
+    }
+
+    // 검증 또는 저장에 실패한 행 (행 번호와 사유를 maxErrors 건까지 기록)
+    void rejected(long line, String reason) {
+        failedRows.incrementAndGet();
+        if (errorCount.getAndIncrement() < maxErrors) {
+            errors.add(MaterialImportErrorDto.builder().line(line).message(reason).build());
+        }
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String reason) {
+        finish(Status.FAILED, reason);
+    }
+
+    private void finish(Status status, String reason) {
+        this.message = reason;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public MaterialImportJobDto toDto() {
+        List<MaterialImportErrorDto> snapshot = new ArrayList<>(errors);
+        return MaterialImportJobDto.builder()
+                .jobId(id)
+                .fileName(fileName)
+                .status(status.name())
+                .readRows(readRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .errors(snapshot)
+                .errorsTruncated(errorCount.get() > maxErrors)
+                .message(message)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
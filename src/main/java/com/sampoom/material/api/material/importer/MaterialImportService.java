@@ -0,0 +1,289 @@
+package com.sampoom.material.api.material.importer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.opencsv.CSVReader;
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.dto.MaterialImportJobDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.service.MaterialService;
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.exception.NotFoundException;
+import com.sampoom.material.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 자재 CSV 가져오기.
+ * 업로드 파일은 임시 파일로 옮긴 뒤 백그라운드에서 한 줄씩 읽어 검증하고,
+ * batchSize 행 단위 배치를 저장 워커들에게 넘긴다.
+ * - 메모리에 올라가는 배치 수는 (워커 수 x 2) 로 제한된다. 워커가 밀리면 읽기 스레드가 기다린다(backpressure).
+ * - 배치 저장이 실패하면 그 배치만 한 행씩 다시 저장해, 실패한 행만 행 번호와 함께 기록하고 나머지는 가져온다.
+ * - CSV 의 id / code 컬럼은 사용하지 않는다. ID 는 시퀀스, 코드는 MaterialCodeAllocator 로 새로 발급한다.
+ */
+@Slf4j
+@Component
+public class MaterialImportService {
+
+    private static final int ID_COLUMN = 0;
+    private static final int CATEGORY_ID_COLUMN = 1;
+    private static final int NAME_COLUMN = 4;
+    private static final char BOM = '\uFEFF';
+
+    private final MaterialService materialService;
+    private final MaterialCategoryRegistry categoryRegistry;
+    private final int batchSize;
+    private final int workers;
+    private final int maxErrors;
+
+    private final ExecutorService readers;
+    private final ExecutorService writers;
+
+    // 진행 중인 작업은 만료 없이 보관하고, 끝난 작업은 종료 후 jobRetention 동안만 조회할 수 있도록 옮긴다
+    private final Map<String, MaterialImportJob> runningJobs = new ConcurrentHashMap<>();
+    private final Cache<String, MaterialImportJob> finishedJobs;
+
+    public MaterialImportService(MaterialService materialService,
+                                 MaterialCategoryRegistry categoryRegistry,
+                                 @Value("${material.import.batch-size:1000}") int batchSize,
+                                 @Value("${material.import.workers:4}") int workers,
+                                 @Value("${material.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                 @Value("${material.import.max-errors:1000}") int maxErrors,
+                                 @Value("${material.import.job-retention:1h}") Duration jobRetention) {
+        this.materialService = materialService;
+        this.categoryRegistry = categoryRegistry;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxErrors = maxErrors;
+        this.readers = Executors.newFixedThreadPool(maxConcurrentJobs, new CustomizableThreadFactory("material-import-reader-"));
+        this.writers = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("material-import-writer-"));
+        this.finishedJobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+    }
+
+    public MaterialImportJobDto start(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.EMPTY_IMPORT_FILE);
+        }
+
+        // 요청이 끝나면 업로드 파일이 정리되므로 작업용 임시 파일로 옮겨 둔다 (스트림 복사, 메모리 적재 없음)
+        Path source;
+        try {
+            source = Files.createTempFile("material-import-", ".csv");
+            file.transferTo(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장하지 못했습니다.", e);
+        }
+
+        MaterialImportJob job = new MaterialImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), maxErrors);
+        runningJobs.put(job.getId(), job);
+        try {
+            readers.execute(() -> run(job, source));
+        } catch (RuntimeException e) {
+            runningJobs.remove(job.getId());
+            throw e;
+        }
+
+        log.info("Material import accepted. jobId={}, file={}, bytes={}", job.getId(), file.getOriginalFilename(), file.getSize());
+        return job.toDto();
+    }
+
+    public MaterialImportJobDto getJob(String jobId) {
+        MaterialImportJob job = runningJobs.get(jobId);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(jobId);
+        }
+        if (job == null) {
+            throw new NotFoundException(ErrorStatus.IMPORT_JOB_NOT_FOUND);
+        }
+        return job.toDto();
+    }
+
+    private void run(MaterialImportJob job, Path source) {
+        int maxInFlight = workers * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long startedAt = System.nanoTime();
+
+        try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             CSVReader csvReader = new CSVReader(reader)) {
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            boolean firstRecord = true;
+
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                long line = csvReader.getLinesRead();
+                if (firstRecord) {
+                    firstRecord = false;
+                    if (isHeader(row)) {
+                        continue;
+                    }
+                }
+                if (isBlank(row)) {
+                    continue;
+                }
+
+                job.rowRead();
+                MaterialRequestDto request = parse(job, line, row);
+                if (request == null) {
+                    continue;
+                }
+                batch.add(new ImportRow(line, request));
+
+                if (batch.size() == batchSize) {
+                    submit(job, batch, inFlight);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(job, batch, inFlight);
+            }
+
+            // 남은 배치가 모두 저장될 때까지 대기
+            inFlight.acquire(maxInFlight);
+            job.complete();
+            log.info("Material import completed. jobId={}, elapsed={}ms, result={}",
+                    job.getId(), (System.nanoTime() - startedAt) / 1_000_000, summary(job));
+        } catch (InterruptedException e) {
+            // 종료 중(shutdownNow)에는 대기 중인 배치가 실행되지 않으므로 기다리지 않는다
+            Thread.currentThread().interrupt();
+            job.fail("작업이 중단되었습니다.");
+        } catch (Exception e) {
+            log.error("Material import failed. jobId={}", job.getId(), e);
+            // 이미 넘긴 배치가 끝난 뒤에 실패로 기록한다 (실패한 작업에 저장 행/진행률이 계속 더해지지 않도록)
+            awaitInFlight(inFlight, maxInFlight);
+            job.fail(e.getMessage());
+        } finally {
+            // 종료된 작업은 보관 기간이 있는 캐시로 옮긴다 (옮기는 사이에도 조회되도록 먼저 넣고 제거)
+            finishedJobs.put(job.getId(), job);
+            runningJobs.remove(job.getId());
+            try {
+                Files.deleteIfExists(source);
+            } catch (IOException e) {
+                log.warn("Failed to delete import file. path={}", source, e);
+            }
+        }
+    }
+
+    private void awaitInFlight(Semaphore inFlight, int maxInFlight) {
+        try {
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 검증에 실패한 행은 오류로 기록하고 null 을 반환한다
+    private MaterialRequestDto parse(MaterialImportJob job, long line, String[] row) {
+        if (row.length <= NAME_COLUMN) {
+            job.rejected(line, "컬럼 수가 부족합니다. (id,category_id,category,code,name)");
+            return null;
+        }
+        String name = row[NAME_COLUMN].trim();
+        if (name.isEmpty()) {
+            job.rejected(line, "자재명이 비어 있습니다.");
+            return null;
+        }
+
+        Long categoryId;
+        try {
+            categoryId = Long.parseLong(row[CATEGORY_ID_COLUMN].trim());
+        } catch (NumberFormatException e) {
+            job.rejected(line, "카테고리 ID 형식이 올바르지 않습니다: " + row[CATEGORY_ID_COLUMN]);
+            return null;
+        }
+        if (categoryRegistry.find(categoryId).isEmpty()) {
+            job.rejected(line, "존재하지 않는 카테고리입니다: " + categoryId);
+            return null;
+        }
+
+        return MaterialRequestDto.builder()
+                .name(name)
+                .materialCategoryId(categoryId)
+                .build();
+    }
+
+    private void submit(MaterialImportJob job, List<ImportRow> batch, Semaphore inFlight)
+            throws InterruptedException {
+        inFlight.acquire();
+        try {
+            writers.execute(() -> {
+                try {
+                    save(job, batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void save(MaterialImportJob job, List<ImportRow> batch) {
+        try {
+            materialService.createMaterials(batch.stream().map(ImportRow::request).toList());
+            job.imported(batch.size());
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백되었으므로 한 행씩 다시 저장해 실패한 행만 골라낸다
+            log.warn("Material import batch failed, retrying row by row. jobId={}, firstLine={}, rows={}",
+                    job.getId(), batch.get(0).line(), batch.size(), e);
+            for (ImportRow row : batch) {
+                try {
+                    materialService.createMaterials(List.of(row.request()));
+                    job.imported(1);
+                } catch (RuntimeException rowFailure) {
+                    job.rejected(row.line(), "저장 실패: " + rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean isHeader(String[] row) {
+        String first = row[ID_COLUMN];
+        if (!first.isEmpty() && first.charAt(0) == BOM) {
+            first = first.substring(1);
+        }
+        return "id".equalsIgnoreCase(first.trim());
+    }
+
+    private boolean isBlank(String[] row) {
+        return row.length == 1 && row[0].isBlank();
+    }
+
+    private String summary(MaterialImportJob job) {
+        MaterialImportJobDto dto = job.toDto();
+        return "read=" + dto.getReadRows() + ", imported=" + dto.getImportedRows() + ", failed=" + dto.getFailedRows();
+    }
+
+    // 저장 실패 시 행 번호를 기록하기 위해 요청과 CSV 행 번호를 함께 보관
+    private record ImportRow(long line, MaterialRequestDto request) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readers.shutdownNow();
+        writers.shutdownNow();
+    }
+}
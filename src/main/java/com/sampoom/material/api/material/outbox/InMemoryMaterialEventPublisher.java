@@ -0,0 +1,61 @@
+package com.sampoom.material.api.material.outbox;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로컬/테스트용 발행기. 최근 발행된 이벤트를 capacity 개까지 메모리에 보관한다.
+ * material.outbox.publisher=in-memory 일 때만 등록된다 (OutboxConfig).
+ */
+@Slf4j
+public class InMemoryMaterialEventPublisher implements MaterialEventPublisher {
+
+    private final int capacity;
+    private final Deque<MaterialChangeDto> published = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InMemoryMaterialEventPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(List<MaterialChangeDto> changes) {
+        lock.lock();
+        try {
+            for (MaterialChangeDto change : changes) {
+                if (published.size() == capacity) {
+                    published.removeFirst();
+                }
+                published.addLast(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Material change events published (in-memory). count={}", changes.size());
+    }
+
+    // 발행 순서대로 복사본을 반환
+    public List<MaterialChangeDto> getPublished() {
+        lock.lock();
+        try {
+            return new ArrayList<>(published);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            published.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sampoom.material.api.material.outbox;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+
+import java.util.List;
+
+/**
+ * 자재 변경 이벤트 발행 대상 (메시지 브로커 등).
+ * MaterialOutboxRelay 가 백그라운드에서 배치 단위로 호출하므로 API 요청 스레드는 브로커를 기다리지 않는다.
+ * - 예외를 던지면 배치 전체가 아웃박스에 남아 다음 주기에 다시 발행된다 (at-least-once).
+ * - 같은 자재의 변경이 다시 올 수 있으므로 소비자는 revision 이 더 작은 이벤트를 무시한다.
+ */
+public interface MaterialEventPublisher {
+
+    void publish(List<MaterialChangeDto> changes);
+}
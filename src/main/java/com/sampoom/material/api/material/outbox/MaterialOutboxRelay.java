@@ -0,0 +1,169 @@
+package com.sampoom.material.api.material.outbox;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialOutboxEvent;
+import com.sampoom.material.api.material.repository.MaterialOutboxEventRepository;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 릴레이.
+ * 주기적으로 아웃박스를 batchSize 건씩 잠가 가져와(SKIP LOCKED) 자재별로 합친 뒤 발행하고, 발행한 행을 삭제한다.
+ * - 한 배치 안에서 같은 자재의 변경이 여러 번 있으면 마지막 리비전 하나만 발행한다.
+ * - UPSERT 는 발행 시점의 자재 상태를 담는다 (그 사이 삭제되었으면 DELETE 로 발행).
+ * - 발행이 실패하면 트랜잭션을 롤백해 행을 남겨 두고 다음 주기에 다시 시도한다.
+ * - MaterialEventPublisher 빈이 없으면 발행하지 않고 행을 그대로 남겨 둔다 (발행기를 등록하면 밀린 행부터 발행).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "material.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class MaterialOutboxRelay {
+
+    // IN 절 바인드 변수 수 제한을 넘지 않도록 나눠서 조회
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final MaterialOutboxEventRepository outboxRepository;
+    private final MaterialRepository materialRepository;
+    private final MaterialEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter publishedEvents;
+    private final Counter coalescedEvents;
+    private final Counter failedBatches;
+
+    @Autowired
+    public MaterialOutboxRelay(MaterialOutboxEventRepository outboxRepository,
+                               MaterialRepository materialRepository,
+                               ObjectProvider<MaterialEventPublisher> publisher,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${material.outbox.batch-size:500}") int batchSize) {
+        this(outboxRepository, materialRepository, publisher.getIfAvailable(), transactionTemplate, meterRegistry, batchSize);
+        if (this.publisher == null) {
+            log.warn("No MaterialEventPublisher bean; material outbox rows are kept until a publisher is configured.");
+        }
+    }
+
+    // publisher 가 null 이면 발행하지 않는다
+    MaterialOutboxRelay(MaterialOutboxEventRepository outboxRepository,
+                        MaterialRepository materialRepository,
+                        MaterialEventPublisher publisher,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry,
+                        int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.materialRepository = materialRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.publishedEvents = Counter.builder("material.outbox.published")
+                .description("발행된 자재 변경 이벤트 수")
+                .register(meterRegistry);
+        this.coalescedEvents = Counter.builder("material.outbox.coalesced")
+                .description("같은 자재의 이후 변경에 합쳐져 발행되지 않은 아웃박스 행 수")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("material.outbox.failed")
+                .description("발행에 실패해 다시 시도할 배치 수")
+                .register(meterRegistry);
+    }
+
+    // 쌓인 행이 있으면 비울 때까지 연속으로 발행한다
+    @Scheduled(fixedDelayString = "${material.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        if (publisher == null) {
+            return;
+        }
+        try {
+            while (drainOnce() == batchSize) {
+                // 다음 배치
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Material outbox relay failed, will retry. batchSize={}", batchSize, e);
+        }
+    }
+
+    /**
+     * 배치 하나를 발행하고 가져온 아웃박스 행 수를 반환한다.
+     */
+    public int drainOnce() {
+        if (publisher == null) {
+            return 0;
+        }
+        Integer fetched = transactionTemplate.execute(status -> {
+            List<MaterialOutboxEvent> batch = outboxRepository.findBatchForPublish(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            Collection<MaterialOutboxEvent> latest = coalesce(batch);
+            List<MaterialChangeDto> changes = toChanges(latest);
+
+            publisher.publish(changes);
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(MaterialOutboxEvent::getId).toList());
+
+            publishedEvents.increment(changes.size());
+            coalescedEvents.increment(batch.size() - changes.size());
+            return batch.size();
+        });
+        return fetched == null ? 0 : fetched;
+    }
+
+    // 자재별 마지막 변경만 남기고, 마지막 변경의 순서(아웃박스 ID 순 = 리비전 순)를 유지한다
+    static Collection<MaterialOutboxEvent> coalesce(List<MaterialOutboxEvent> batch) {
+        Map<Long, MaterialOutboxEvent> latest = new LinkedHashMap<>();
+        for (MaterialOutboxEvent event : batch) {
+            latest.remove(event.getMaterialId());
+            latest.put(event.getMaterialId(), event);
+        }
+        return latest.values();
+    }
+
+    private List<MaterialChangeDto> toChanges(Collection<MaterialOutboxEvent> events) {
+        List<Long> upsertIds = new ArrayList<>(events.size());
+        for (MaterialOutboxEvent event : events) {
+            if (event.getChangeType() == MaterialChangeType.UPSERT) {
+                upsertIds.add(event.getMaterialId());
+            }
+        }
+        Map<Long, MaterialResponseDto> materials = new HashMap<>(upsertIds.size() * 2);
+        for (int from = 0; from < upsertIds.size(); from += IN_CHUNK_SIZE) {
+            for (MaterialResponseDto material : materialRepository.findDtosByIdIn(upsertIds.subList(from, Math.min(from + IN_CHUNK_SIZE, upsertIds.size())))) {
+                materials.put(material.getId(), material);
+            }
+        }
+
+        List<MaterialChangeDto> changes = new ArrayList<>(events.size());
+        for (MaterialOutboxEvent event : events) {
+            MaterialResponseDto material = (event.getChangeType() == MaterialChangeType.UPSERT)
+                    ? materials.get(event.getMaterialId())
+                    : null;
+            changes.add(MaterialChangeDto.builder()
+                    .revision(event.getRevision())
+                    .materialId(event.getMaterialId())
+                    .type(material != null ? MaterialChangeType.UPSERT : MaterialChangeType.DELETE)
+                    .material(material)
+                    .build());
+        }
+        return changes;
+    }
+}
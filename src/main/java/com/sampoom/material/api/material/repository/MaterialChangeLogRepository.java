@@ -0,0 +1,39 @@
+package com.sampoom.material.api.material.repository;
+
+import com.sampoom.material.api.material.entity.MaterialChangeLog;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MaterialChangeLogRepository extends JpaRepository<MaterialChangeLog, Long> {
+
+    // (revision, materialId) 키셋 페이지네이션
+    @Query("SELECT c FROM MaterialChangeLog c " +
+            "WHERE c.revision > :revision OR (c.revision = :revision AND c.materialId > :afterMaterialId) " +
+            "ORDER BY c.revision ASC, c.materialId ASC")
+    List<MaterialChangeLog> findChangesAfter(@Param("revision") long revision,
+                                             @Param("afterMaterialId") long afterMaterialId,
+                                             Pageable limit);
+
+    // 같은 자재의 더 나중 이력이 있는 행 (변경분 조회는 자재의 현재 상태를 내려주므로 지워도 결과가 같다)
+    @Query("SELECT c.id FROM MaterialChangeLog c WHERE EXISTS (SELECT 1 FROM MaterialChangeLog n " +
+            "WHERE n.materialId = c.materialId AND (n.revision > c.revision OR (n.revision = c.revision AND n.id > c.id)))")
+    List<Long> findSupersededIds(Pageable limit);
+
+    // 보관 기간이 지난 이력 (리비전 순)
+    @Query("SELECT c FROM MaterialChangeLog c WHERE c.changeType = :changeType AND c.changedAt < :cutoff " +
+            "ORDER BY c.revision ASC, c.materialId ASC")
+    List<MaterialChangeLog> findExpired(@Param("changeType") MaterialChangeType changeType,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        Pageable limit);
+
+    // 변경 이력이 하나도 없는 자재 (이력 도입 전부터 있던 자재, DataInitializer 가 이벤트 없이 적재한 자재)
+    @Query("SELECT m.id FROM Material m WHERE m.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM MaterialChangeLog c WHERE c.materialId = m.id) ORDER BY m.id ASC")
+    List<Long> findMaterialIdsWithoutChanges(@Param("afterId") long afterId, Pageable limit);
+}
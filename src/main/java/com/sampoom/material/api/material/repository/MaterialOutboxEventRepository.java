@@ -0,0 +1,21 @@
+package com.sampoom.material.api.material.repository;
+
+import com.sampoom.material.api.material.entity.MaterialOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface MaterialOutboxEventRepository extends JpaRepository<MaterialOutboxEvent, Long> {
+
+    // FOR UPDATE SKIP LOCKED: 여러 인스턴스의 릴레이가 서로 다른 행을 가져가도록 한다 (lock.timeout = -2)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM MaterialOutboxEvent e ORDER BY e.id ASC")
+    List<MaterialOutboxEvent> findBatchForPublish(Pageable limit);
+}
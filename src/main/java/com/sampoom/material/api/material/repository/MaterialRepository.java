@@ -1,20 +1,126 @@
 package com.sampoom.material.api.material.repository;
 
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
 import com.sampoom.material.api.material.entity.Material;
+import com.sampoom.material.api.material.search.MaterialSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface MaterialRepository extends JpaRepository<Material,Long> {
+
+    // 조회용 DTO 프로젝션: 카테고리를 조인해 한 번의 쿼리로 응답 DTO 를 만든다 (지연 로딩 N+1 방지)
+    String DTO_SELECT = "SELECT new com.sampoom.material.api.material.dto.MaterialResponseDto(" +
+            "m.id, m.name, m.materialCode, c.id, c.name, m.version) " +
+            "FROM Material m JOIN m.materialCategory c ";
+
+    String KEYWORD_CONDITION = "(LOWER(m.name) LIKE :pattern ESCAPE '\\' OR LOWER(m.materialCode) LIKE :pattern ESCAPE '\\') ";
+
     Page<Material> findAll(Pageable pageable);
 
-    Page<Material> findByMaterialCategoryId(Long categoryId, Pageable pageable);
+    // 수정/삭제처럼 엔티티가 필요한 경우 카테고리를 함께 조회
+    @EntityGraph(attributePaths = "materialCategory")
+    Optional<Material> findWithCategoryById(Long id);
+
+    @EntityGraph(attributePaths = "materialCategory")
+    List<Material> findAllWithCategoryByIdIn(Collection<Long> ids);
+
+    @Query(DTO_SELECT + "WHERE m.id = :id")
+    Optional<MaterialResponseDto> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT + "WHERE m.id IN :ids")
+    List<MaterialResponseDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Slice 반환: size + 1 건만 조회하고 COUNT 쿼리는 실행하지 않는다 (건수는 MaterialCountCache 에서 제공)
+    @Query(DTO_SELECT)
+    Slice<MaterialResponseDto> findDtoSlice(Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE c.id = :categoryId")
+    Slice<MaterialResponseDto> findDtoSliceByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE " + KEYWORD_CONDITION)
+    Slice<MaterialResponseDto> searchDtoSlice(@Param("pattern") String pattern, Pageable pageable);
+
+    long countByMaterialCategoryId(Long categoryId);
+
+    long countByNameContainingIgnoreCaseOrMaterialCodeContainingIgnoreCase(String name, String materialCode);
+
+    // ===== 소프트 삭제 =====
+
+    // 조회 없이 UPDATE 한 번으로 툼스톤 처리 (버전도 올려 동시 수정은 409 가 되도록 한다)
+    @Modifying
+    @Query("UPDATE Material m SET m.deleted = true, m.deletedAt = :deletedAt, m.version = m.version + 1 " +
+            "WHERE m.id IN :ids AND m.deleted = false")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "SELECT material_id FROM material WHERE material_id IN :ids AND deleted = true", nativeQuery = true)
+    List<Long> findDeletedIdsIn(@Param("ids") Collection<Long> ids);
+
+    // softDeleteByIdIn 을 같은 deletedAt 으로 실행한 트랜잭션이 실제로 툼스톤 처리한 ID (이미 삭제되어 있던 ID 제외)
+    @Query(value = "SELECT material_id FROM material WHERE material_id IN :ids AND deleted = true AND deleted_at = :deletedAt",
+            nativeQuery = true)
+    List<Long> findIdsDeletedAt(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 보관 기간이 지난 툼스톤을 limit 건씩 물리 삭제
+    @Modifying
+    @Query(value = "DELETE FROM material WHERE material_id IN (" +
+            "SELECT material_id FROM material WHERE deleted = true AND deleted_at < :cutoff " +
+            "ORDER BY material_id LIMIT :limit)", nativeQuery = true)
+    int purgeTombstones(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // ===== 키셋(커서) 페이지네이션 =====
+    // Pageable 은 LIMIT 용도로만 사용한다 (List 반환이므로 COUNT 쿼리 없음)
+
+    @Query(DTO_SELECT + "ORDER BY m.id ASC")
+    List<MaterialResponseDto> findFirstPage(Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<MaterialResponseDto> findPageAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE c.id = :categoryId ORDER BY m.id ASC")
+    List<MaterialResponseDto> findFirstPageByCategory(@Param("categoryId") Long categoryId, Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE c.id = :categoryId AND m.id > :afterId ORDER BY m.id ASC")
+    List<MaterialResponseDto> findPageByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE " + KEYWORD_CONDITION +
+            "ORDER BY m.name ASC, m.id ASC")
+    List<MaterialResponseDto> searchFirstPage(@Param("pattern") String pattern, Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE " + KEYWORD_CONDITION +
+            "AND (m.name > :afterName OR (m.name = :afterName AND m.id > :afterId)) " +
+            "ORDER BY m.name ASC, m.id ASC")
+    List<MaterialResponseDto> searchPageAfter(@Param("pattern") String pattern,
+                                              @Param("afterName") String afterName,
+                                              @Param("afterId") Long afterId,
+                                              Pageable limit);
+
+    // ===== 전체 내보내기 =====
+
+    // forward-only 커서로 fetch size 만큼씩 가져온다 (PostgreSQL 은 트랜잭션 안에서만 커서로 동작)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(DTO_SELECT + "ORDER BY m.id ASC")
+    Stream<MaterialResponseDto> streamAllDtos();
 
-    Page<Material> findByNameContainingIgnoreCaseOrMaterialCodeContainingIgnoreCase(
-            String name, String materialCode, Pageable pageable);
+    // ===== 검색 색인 적재 =====
 
-    @Query("SELECT m.materialCode FROM Material m WHERE m.materialCategory.id = :categoryId ORDER BY m.id DESC LIMIT 1")
-    String findTopByCategoryOrderByCodeDesc(@Param("categoryId") Long categoryId);
+    @Query("SELECT new com.sampoom.material.api.material.search.MaterialSearchDocument(m.id, m.name, m.materialCode) " +
+            "FROM Material m WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<MaterialSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable limit);
 }
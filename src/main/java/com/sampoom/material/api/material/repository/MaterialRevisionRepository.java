@@ -0,0 +1,24 @@
+package com.sampoom.material.api.material.repository;
+
+import com.sampoom.material.api.material.entity.MaterialRevision;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MaterialRevisionRepository extends JpaRepository<MaterialRevision, Long> {
+
+    // 커밋 순서대로 리비전을 발급하기 위해 커밋까지 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM MaterialRevision r WHERE r.id = :id")
+    Optional<MaterialRevision> findForUpdate(@Param("id") Long id);
+
+    // 지운 DELETE 이력의 최대 리비전을 기록한다 (낮아지지 않는다)
+    @Modifying
+    @Query("UPDATE MaterialRevision r SET r.compactedRevision = :revision WHERE r.id = :id AND r.compactedRevision < :revision")
+    int raiseCompactedRevision(@Param("id") Long id, @Param("revision") long revision);
+}
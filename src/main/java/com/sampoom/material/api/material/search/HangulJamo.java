@@ -0,0 +1,131 @@
+package com.sampoom.material.api.material.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절 분해 유틸.
+ * - 초성 키: "냉간압연강판" → "ㄴㄱㅇㅇㄱㅍ"
+ * - 자모 키: "냉간" → "ㄴㅐㅇㄱㅏㄴ" (겹모음/겹받침은 입력 순서대로 풀어서 "과" → "ㄱㅗㅏ")
+ * 입력 중인 반쯤 조합된 글자("냉가", "냉간ㅇ")도 자모 키의 접두/부분 문자열이 되도록 호환 자모(U+3131~)로 통일한다.
+ * 공백은 제거하고 한글 이외의 문자는 소문자로만 바꿔 그대로 둔다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char CONSONANT_FIRST = 0x3131; // ㄱ
+    private static final char CONSONANT_LAST = 0x314E;  // ㅎ
+    private static final char JAMO_LAST = 0x3163;       // ㅣ
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 ㄱ(0x3131) ~ ㅣ(0x3163) 중 겹자모를 입력 순서로 푼 값 (단일 자모는 null)
+    private static final String[] COMPAT_SPLIT = new String[JAMO_LAST - CONSONANT_FIRST + 1];
+
+    static {
+        COMPAT_SPLIT['ㄳ' - CONSONANT_FIRST] = "ㄱㅅ";
+        COMPAT_SPLIT['ㄵ' - CONSONANT_FIRST] = "ㄴㅈ";
+        COMPAT_SPLIT['ㄶ' - CONSONANT_FIRST] = "ㄴㅎ";
+        COMPAT_SPLIT['ㄺ' - CONSONANT_FIRST] = "ㄹㄱ";
+        COMPAT_SPLIT['ㄻ' - CONSONANT_FIRST] = "ㄹㅁ";
+        COMPAT_SPLIT['ㄼ' - CONSONANT_FIRST] = "ㄹㅂ";
+        COMPAT_SPLIT['ㄽ' - CONSONANT_FIRST] = "ㄹㅅ";
+        COMPAT_SPLIT['ㄾ' - CONSONANT_FIRST] = "ㄹㅌ";
+        COMPAT_SPLIT['ㄿ' - CONSONANT_FIRST] = "ㄹㅍ";
+        COMPAT_SPLIT['ㅀ' - CONSONANT_FIRST] = "ㄹㅎ";
+        COMPAT_SPLIT['ㅄ' - CONSONANT_FIRST] = "ㅂㅅ";
+        COMPAT_SPLIT['ㅘ' - CONSONANT_FIRST] = "ㅗㅏ";
+        COMPAT_SPLIT['ㅙ' - CONSONANT_FIRST] = "ㅗㅐ";
+        COMPAT_SPLIT['ㅚ' - CONSONANT_FIRST] = "ㅗㅣ";
+        COMPAT_SPLIT['ㅝ' - CONSONANT_FIRST] = "ㅜㅓ";
+        COMPAT_SPLIT['ㅞ' - CONSONANT_FIRST] = "ㅜㅔ";
+        COMPAT_SPLIT['ㅟ' - CONSONANT_FIRST] = "ㅜㅣ";
+        COMPAT_SPLIT['ㅢ' - CONSONANT_FIRST] = "ㅡㅣ";
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String toChoseong(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                key.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    public static String toJamo(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                key.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (c >= CONSONANT_FIRST && c <= JAMO_LAST && COMPAT_SPLIT[c - CONSONANT_FIRST] != null) {
+                key.append(COMPAT_SPLIT[c - CONSONANT_FIRST]);
+            } else {
+                key.append(String.valueOf(c).toLowerCase(Locale.ROOT));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음(ㄱ~ㅎ)이면 초성 검색어로 본다.
+     */
+    public static boolean isChoseongQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < CONSONANT_FIRST || c > CONSONANT_LAST) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
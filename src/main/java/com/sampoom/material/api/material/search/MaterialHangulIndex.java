@@ -0,0 +1,201 @@
+package com.sampoom.material.api.material.search;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 자재명 초성/자모 검색용 메모리 색인.
+ * 자재마다 초성 키와 자모 키를 미리 계산해 두므로, 요청 시에는 검색어만 분해하고 카탈로그 전체를 다시 분해하지 않는다.
+ * - 검색어가 자음으로만 이루어지면 초성 키에서, 그 외에는 자모 키에서 부분일치를 찾는다.
+ * - 결과는 일치 품질(완전일치 > 접두일치 > 부분일치, 앞쪽 일치 우선, 짧은 이름 우선) 순으로 정렬한다.
+ * 재적재 중 변경 이벤트는 MaterialSearchIndex 와 같은 방식으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterialHangulIndex {
+
+    private static final int CHOSEONG_GRAM_SIZE = 2;
+    // 자모 알파벳은 50자 남짓이라 2-gram 은 선택도가 낮아 3-gram 사용
+    private static final int JAMO_GRAM_SIZE = 3;
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final MaterialRepository materialRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    private volatile Keys keys = new Keys();
+    // applyLock 으로 보호
+    private Rebuild building;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            Rebuild rebuild = new Rebuild(new Keys());
+            setBuilding(rebuild);
+            try {
+                Long afterId = 0L;
+                List<MaterialSearchDocument> chunk;
+                do {
+                    chunk = materialRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                    applyChunk(rebuild, chunk);
+                    if (!chunk.isEmpty()) {
+                        afterId = chunk.get(chunk.size() - 1).id();
+                    }
+                } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+                applyLock.lock();
+                try {
+                    keys = rebuild.fresh;
+                    building = null;
+                } finally {
+                    applyLock.unlock();
+                }
+                ready = true;
+                log.info("Material hangul index loaded. documents={}, elapsed={}ms, changedDuringLoad={}",
+                        rebuild.fresh.jamo.size(), System.currentTimeMillis() - startedAt, rebuild.changed.size());
+            } finally {
+                setBuilding(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void applyChunk(Rebuild rebuild, List<MaterialSearchDocument> chunk) {
+        applyLock.lock();
+        try {
+            for (MaterialSearchDocument document : chunk) {
+                if (!rebuild.changed.contains(document.id())) {
+                    rebuild.fresh.put(document.id(), document.name());
+                }
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void setBuilding(Rebuild rebuild) {
+        applyLock.lock();
+        try {
+            building = rebuild;
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 일치 품질 순으로 정렬된 자재 ID 목록
+     */
+    public List<Long> search(String keyword) {
+        Keys current = keys;
+        boolean choseong = HangulJamo.isChoseongQuery(keyword);
+        NGramIndex index = choseong ? current.choseong : current.jamo;
+        String query = choseong ? HangulJamo.toChoseong(keyword) : HangulJamo.toJamo(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        return index.search(query)
+                .map(id -> new Match(id, index.get(id), query))
+                .filter(match -> match.position >= 0)
+                .sorted(Match.ORDER)
+                .map(Match::id)
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        applyLock.lock();
+        try {
+            apply(keys, event);
+            if (building != null) {
+                building.changed.add(event.getMaterialId());
+                apply(building.fresh, event);
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void apply(Keys target, MaterialChangedEvent event) {
+        MaterialResponseDto after = event.getAfter();
+        if (after == null) {
+            target.remove(event.getMaterialId());
+        } else {
+            target.put(after.getId(), after.getName());
+        }
+    }
+
+    private record Rebuild(Keys fresh, Set<Long> changed) {
+
+        Rebuild(Keys fresh) {
+            this(fresh, new HashSet<>());
+        }
+    }
+
+    private static final class Keys {
+        private final NGramIndex choseong = new NGramIndex(CHOSEONG_GRAM_SIZE);
+        private final NGramIndex jamo = new NGramIndex(JAMO_GRAM_SIZE);
+
+        void put(Long id, String name) {
+            choseong.put(id, HangulJamo.toChoseong(name));
+            jamo.put(id, HangulJamo.toJamo(name));
+        }
+
+        void remove(Long id) {
+            choseong.remove(id);
+            jamo.remove(id);
+        }
+    }
+
+    private record Match(Long id, int quality, int position, int length) {
+
+        private static final Comparator<Match> ORDER = Comparator.comparingInt(Match::quality)
+                .thenComparingInt(Match::position)
+                .thenComparingInt(Match::length)
+                .thenComparing(Match::id);
+
+        Match(Long id, String key, String query) {
+            this(id, quality(key, query), key == null ? -1 : key.indexOf(query), key == null ? 0 : key.length());
+        }
+
+        // 0: 완전일치, 1: 접두일치, 2: 부분일치
+        private static int quality(String key, String query) {
+            if (key == null) {
+                return Integer.MAX_VALUE;
+            }
+            if (key.equals(query)) {
+                return 0;
+            }
+            return key.startsWith(query) ? 1 : 2;
+        }
+    }
+}
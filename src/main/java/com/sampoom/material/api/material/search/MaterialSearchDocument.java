@@ -0,0 +1,7 @@
+package com.sampoom.material.api.material.search;
+
+/**
+ * 검색 색인 적재용 프로젝션 (엔티티/카테고리 로딩 없이 필요한 컬럼만 조회)
+ */
+public record MaterialSearchDocument(Long id, String name, String materialCode) {
+}
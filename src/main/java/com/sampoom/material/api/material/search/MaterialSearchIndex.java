@@ -0,0 +1,166 @@
+package com.sampoom.material.api.material.search;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 자재명/자재 코드 부분일치 검색용 메모리 색인.
+ * 기동 시 전체 자재를 적재하고, 이후에는 자재 변경 이벤트로 동기화한다.
+ * 적재가 끝나기 전(isReady() == false)에는 호출 측에서 DB 검색으로 대체해야 한다.
+ * 재적재 중 변경된 자재는 새 색인에 이벤트 상태를 먼저 반영하고, 그 전에 읽어 둔 청크의 행으로 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaterialSearchIndex {
+
+    // 한글 자재명은 두 글자 검색("강판", "합금")이 많아 2-gram 사용
+    private static final int GRAM_SIZE = 2;
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    // 자재명과 코드를 하나의 텍스트로 색인할 때 쓰는 구분자 (검색어에 나올 수 없는 문자)
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final MaterialRepository materialRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 변경 이벤트 반영, 청크 반영, 색인 교체를 서로 겹치지 않게 한다 (메모리 작업만 잠근다)
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    private volatile NGramIndex index = new NGramIndex(GRAM_SIZE);
+    // 재적재 중에도 변경 이벤트를 놓치지 않도록 새 색인에도 반영 (applyLock 으로 보호)
+    private Rebuild building;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            Rebuild rebuild = new Rebuild(new NGramIndex(GRAM_SIZE));
+            setBuilding(rebuild);
+            try {
+                Long afterId = 0L;
+                List<MaterialSearchDocument> chunk;
+                do {
+                    chunk = materialRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                    applyChunk(rebuild, chunk);
+                    if (!chunk.isEmpty()) {
+                        afterId = chunk.get(chunk.size() - 1).id();
+                    }
+                } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+                applyLock.lock();
+                try {
+                    index = rebuild.fresh;
+                    building = null;
+                } finally {
+                    applyLock.unlock();
+                }
+                ready = true;
+                log.info("Material search index loaded. documents={}, elapsed={}ms, changedDuringLoad={}",
+                        rebuild.fresh.size(), System.currentTimeMillis() - startedAt, rebuild.changed.size());
+            } finally {
+                setBuilding(null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 청크를 읽은 뒤 이벤트로 반영된 자재는 건너뛴다 (청크의 행이 더 오래된 상태일 수 있다)
+    private void applyChunk(Rebuild rebuild, List<MaterialSearchDocument> chunk) {
+        applyLock.lock();
+        try {
+            for (MaterialSearchDocument document : chunk) {
+                if (!rebuild.changed.contains(document.id())) {
+                    rebuild.fresh.put(document.id(), toText(document.name(), document.materialCode()));
+                }
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void setBuilding(Rebuild rebuild) {
+        applyLock.lock();
+        try {
+            building = rebuild;
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 자재명 또는 자재 코드에 keyword 를 포함하는 자재 ID (ID 오름차순, 대소문자 무시)
+     */
+    public Stream<Long> search(String keyword) {
+        return index.search(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    @TransactionalEventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        applyLock.lock();
+        try {
+            apply(index, event);
+            if (building != null) {
+                building.changed.add(event.getMaterialId());
+                apply(building.fresh, event);
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void apply(NGramIndex target, MaterialChangedEvent event) {
+        MaterialResponseDto after = event.getAfter();
+        if (after == null) {
+            target.remove(event.getMaterialId());
+        } else {
+            target.put(after.getId(), toText(after.getName(), after.getMaterialCode()));
+        }
+    }
+
+    // 재적재 중인 색인과 그동안 이벤트로 반영된 자재 ID
+    private record Rebuild(NGramIndex fresh, Set<Long> changed) {
+
+        Rebuild(NGramIndex fresh) {
+            this(fresh, new HashSet<>());
+        }
+    }
+
+    private String toText(String name, String materialCode) {
+        StringBuilder text = new StringBuilder();
+        if (name != null) {
+            text.append(name.toLowerCase(Locale.ROOT));
+        }
+        text.append(FIELD_SEPARATOR);
+        if (materialCode != null) {
+            text.append(materialCode.toLowerCase(Locale.ROOT));
+        }
+        return text.toString();
+    }
+}
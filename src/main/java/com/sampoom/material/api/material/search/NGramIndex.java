@@ -0,0 +1,127 @@
+package com.sampoom.material.api.material.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 부분 문자열 검색용 n-gram 역색인.
+ * 문서 텍스트를 gramSize 길이로 잘라 gram → 문서 ID 목록(오름차순)을 유지하고,
+ * 검색 시 질의의 gram 목록을 교집합한 뒤 원문 contains 로 최종 확인한다.
+ * 결과는 항상 ID 오름차순으로 반환된다.
+ */
+public class NGramIndex {
+
+    private final int gramSize;
+
+    // ID → 색인된 텍스트 (최종 확인 및 짧은 질의 스캔용)
+    private final ConcurrentSkipListMap<Long, String> documents = new ConcurrentSkipListMap<>();
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+    public NGramIndex(int gramSize) {
+        this.gramSize = gramSize;
+    }
+
+    public void put(Long id, String text) {
+        remove(id);
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        documents.put(id, text);
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Posting()).add(id);
+        }
+    }
+
+    public void remove(Long id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Posting posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+            }
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public String get(Long id) {
+        return documents.get(id);
+    }
+
+    /**
+     * query 를 부분 문자열로 포함하는 문서 ID 를 오름차순으로 반환한다.
+     * 스트림은 지연 평가되므로 skip/limit 으로 필요한 페이지만 확인할 수 있다.
+     */
+    public Stream<Long> search(String query) {
+        if (query.length() < gramSize) {
+            // gram 보다 짧은 질의는 메모리 내 텍스트를 순차 확인
+            return documents.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(query))
+                    .map(Map.Entry::getKey);
+        }
+
+        List<Posting> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Posting posting = postings.get(gram);
+            if (posting == null || posting.size() == 0) {
+                return Stream.empty();
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 목록을 기준으로 나머지에 포함되는지 확인
+        lists.sort(Comparator.comparingInt(Posting::size));
+        Posting smallest = lists.get(0);
+        List<Posting> others = lists.subList(1, lists.size());
+
+        return smallest.ids.stream()
+                .filter(id -> others.stream().allMatch(other -> other.ids.contains(id)))
+                .filter(id -> {
+                    String text = documents.get(id);
+                    return text != null && text.contains(query);
+                });
+    }
+
+    private Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + gramSize <= text.length(); i++) {
+            grams.add(text.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    private static final class Posting {
+        private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+        // ConcurrentSkipListSet.size() 는 O(n) 이므로 별도로 관리
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(Long id) {
+            if (ids.add(id)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(Long id) {
+            if (ids.remove(id)) {
+                size.decrementAndGet();
+            }
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
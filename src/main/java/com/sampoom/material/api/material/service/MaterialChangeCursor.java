@@ -0,0 +1,49 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 변경 이력 조회용 커서 ("c:{revision}:{materialId}").
+ * 한 리비전에 변경이 많아 페이지가 리비전 중간에서 끊겨도 이어서 조회할 수 있다.
+ */
+public record MaterialChangeCursor(long revision, long materialId) {
+
+    private static final String PREFIX = "c:";
+
+    public String encode() {
+        String raw = PREFIX + revision + ":" + materialId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 토큰이면 null (since 리비전부터 조회)
+    public static MaterialChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        if (!raw.startsWith(PREFIX)) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        String body = raw.substring(PREFIX.length());
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        try {
+            return new MaterialChangeCursor(Long.parseLong(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.entity.MaterialChangeLog;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialRevision;
+import com.sampoom.material.api.material.repository.MaterialChangeLogRepository;
+import com.sampoom.material.api.material.repository.MaterialRevisionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자재 변경 이력 유지 관리.
+ * - 기동 시: 이력이 없는 자재(이력 도입 전 데이터, DataInitializer 적재분)를 리비전 0 의 UPSERT 로 채워
+ *   since=0 으로 시작하는 소비자가 전체 카탈로그를 받도록 한다.
+ * - 주기적으로: 같은 자재의 이전 이력은 지우고(변경분 조회는 현재 상태를 내려주므로 결과가 같다),
+ *   보관 기간(retention)이 지난 DELETE 이력을 지운다. 지운 DELETE 이력의 최대 리비전은 compacted_revision 으로 남겨
+ *   그보다 앞선 since 로 조회하면 삭제를 놓치지 않도록 410 으로 응답한다.
+ * 툼스톤 정리와 같이 batchSize 건씩 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+public class MaterialChangeLogCompactor {
+
+    private final MaterialChangeLogRepository changeLogRepository;
+    private final MaterialRevisionRepository revisionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public MaterialChangeLogCompactor(MaterialChangeLogRepository changeLogRepository,
+                                      MaterialRevisionRepository revisionRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${material.changes.retention:30d}") Duration retention,
+                                      @Value("${material.changes.compact-batch-size:1000}") int batchSize) {
+        this.changeLogRepository = changeLogRepository;
+        this.revisionRepository = revisionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    // DataInitializer(CommandLineRunner) 적재가 끝난 뒤에 실행된다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        long filled = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = changeLogRepository.findMaterialIdsWithoutChanges(afterId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                List<MaterialChangeLog> logs = new ArrayList<>(ids.size());
+                LocalDateTime changedAt = LocalDateTime.now();
+                for (Long id : ids) {
+                    logs.add(MaterialChangeLog.builder()
+                            .revision(0)
+                            .materialId(id)
+                            .changeType(MaterialChangeType.UPSERT)
+                            .changedAt(changedAt)
+                            .build());
+                }
+                transactionTemplate.executeWithoutResult(status -> changeLogRepository.saveAll(logs));
+                filled += ids.size();
+                afterId = ids.get(ids.size() - 1);
+            } while (ids.size() == batchSize);
+        } catch (RuntimeException e) {
+            // 다음 기동 때 남은 자재부터 다시 채운다
+            log.warn("Material change log backfill failed. filled={}", filled, e);
+            return;
+        }
+        if (filled > 0) {
+            log.info("Material change log backfilled at revision 0. materials={}", filled);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${material.changes.compact-interval-ms:3600000}",
+            initialDelayString = "${material.changes.compact-interval-ms:3600000}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long superseded = 0;
+        long expired = 0;
+        long startedAt = System.nanoTime();
+        try {
+            int deleted;
+            do {
+                deleted = deleteSupersededBatch();
+                superseded += deleted;
+            } while (deleted == batchSize);
+            do {
+                deleted = deleteExpiredBatch(cutoff);
+                expired += deleted;
+            } while (deleted == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Material change log compaction failed, will retry. superseded={}, expired={}", superseded, expired, e);
+            return;
+        }
+        if (superseded > 0 || expired > 0) {
+            log.info("Material change log compacted. superseded={}, expiredDeletes={}, cutoff={}, elapsed={}ms",
+                    superseded, expired, cutoff, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private int deleteSupersededBatch() {
+        Integer result = transactionTemplate.execute(status -> {
+            List<Long> ids = changeLogRepository.findSupersededIds(PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                changeLogRepository.deleteAllByIdInBatch(ids);
+            }
+            return ids.size();
+        });
+        return (result == null) ? 0 : result;
+    }
+
+    // 지우는 이력의 최대 리비전을 같은 트랜잭션에서 먼저 기록한다
+    private int deleteExpiredBatch(LocalDateTime cutoff) {
+        Integer result = transactionTemplate.execute(status -> {
+            List<MaterialChangeLog> logs = changeLogRepository.findExpired(MaterialChangeType.DELETE, cutoff, PageRequest.of(0, batchSize));
+            if (logs.isEmpty()) {
+                return 0;
+            }
+            revisionRepository.raiseCompactedRevision(MaterialRevision.ROW_ID, logs.get(logs.size() - 1).getRevision());
+            changeLogRepository.deleteAllByIdInBatch(logs.stream().map(MaterialChangeLog::getId).toList());
+            return logs.size();
+        });
+        return (result == null) ? 0 : result;
+    }
+}
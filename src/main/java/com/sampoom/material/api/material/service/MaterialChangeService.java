@@ -0,0 +1,119 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+import com.sampoom.material.api.material.dto.MaterialChangesResponseDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.entity.MaterialChangeLog;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialRevision;
+import com.sampoom.material.api.material.repository.MaterialChangeLogRepository;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.api.material.repository.MaterialRevisionRepository;
+import com.sampoom.material.common.exception.GoneException;
+import com.sampoom.material.common.response.ErrorStatus;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분 동기화 조회.
+ * since 리비전 이후의 변경 이력을 (revision, materialId) 순으로 페이지 단위로 반환한다.
+ * UPSERT 는 조회 시점의 자재 상태를 함께 내려주므로, 소비자는 순서대로 덮어쓰고/지우기만 하면 된다.
+ * since=0 은 처음부터 조회하며, 이력 도입 전부터 있던 자재(리비전 0 의 UPSERT)도 포함한다.
+ * 보관 기간이 지나 지운 DELETE 이력보다 앞선 since 는 삭제를 놓칠 수 있으므로 410 으로 거절한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "material.service", description = "MaterialChangeService 메서드 실행 시간")
+public class MaterialChangeService {
+
+    private static final int MAX_PAGE_SIZE = 5000;
+
+    // IN 절 바인드 변수 수 제한을 넘지 않도록 나눠서 조회
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final MaterialChangeLogRepository changeLogRepository;
+    private final MaterialRepository materialRepository;
+    private final MaterialRevisionRepository revisionRepository;
+
+    /**
+     * 현재 리비전. 전체 내보내기 전에 읽어 두면 내보낸 데이터는 이 리비전까지의 변경을 모두 포함하므로,
+     * 이 값을 since 로 변경분 조회를 이어가면 된다 (그 사이의 변경은 다시 내려오지만 덮어쓰기라 결과가 같다).
+     */
+    @Transactional(readOnly = true)
+    public long currentRevision() {
+        return revisionRepository.findById(MaterialRevision.ROW_ID)
+                .map(MaterialRevision::getRevision)
+                .orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public MaterialChangesResponseDto getChanges(long since, String cursor, int size) {
+        MaterialChangeCursor position = MaterialChangeCursor.decode(cursor);
+        long fromRevision = (position != null) ? position.revision() : Math.max(0, since);
+        // 커서가 없으면 since 리비전의 행은 모두 건너뛰고 (materialId > MAX 인 행은 없음),
+        // since=0 이면 리비전 0 의 행부터 포함한다 (자재 ID 는 양수)
+        long afterMaterialId = (position != null) ? position.materialId() : (fromRevision == 0 ? 0 : Long.MAX_VALUE);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 이력을 읽기 전에 리비전을 읽는다: 이 리비전 이하의 변경은 모두 커밋되어 아래 조회에 보인다
+        MaterialRevision state = revisionRepository.findById(MaterialRevision.ROW_ID).orElse(null);
+        long currentRevision = (state != null) ? state.getRevision() : 0;
+        if (state != null && fromRevision > 0 && fromRevision < state.getCompactedRevision()) {
+            throw new GoneException(ErrorStatus.MATERIAL_CHANGES_EXPIRED);
+        }
+
+        List<MaterialChangeLog> logs = changeLogRepository.findChangesAfter(
+                fromRevision, afterMaterialId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = logs.size() > pageSize;
+        List<MaterialChangeLog> page = hasNext ? logs.subList(0, pageSize) : logs;
+        Map<Long, MaterialResponseDto> materials = findCurrentMaterials(page);
+
+        List<MaterialChangeDto> changes = new ArrayList<>(page.size());
+        for (MaterialChangeLog log : page) {
+            MaterialResponseDto material = (log.getChangeType() == MaterialChangeType.UPSERT)
+                    ? materials.get(log.getMaterialId())
+                    : null;
+            changes.add(MaterialChangeDto.builder()
+                    .revision(log.getRevision())
+                    .materialId(log.getMaterialId())
+                    // 이후 리비전에서 삭제된 자재는 이미 없으므로 삭제로 내려준다 (뒤따르는 DELETE 와 결과가 같다)
+                    .type(material != null ? MaterialChangeType.UPSERT : MaterialChangeType.DELETE)
+                    .material(material)
+                    .build());
+        }
+
+        MaterialChangeLog last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return MaterialChangesResponseDto.builder()
+                .changes(changes)
+                .nextCursor(hasNext ? new MaterialChangeCursor(last.getRevision(), last.getMaterialId()).encode() : null)
+                .hasNext(hasNext)
+                // 마지막 페이지면 현재 리비전까지 반영한 것으로 본다 (다음 동기화가 리비전 0 부터 다시 읽지 않도록)
+                .lastRevision(hasNext ? last.getRevision() : Math.max(last != null ? last.getRevision() : fromRevision, currentRevision))
+                .build();
+    }
+
+    private Map<Long, MaterialResponseDto> findCurrentMaterials(List<MaterialChangeLog> logs) {
+        List<Long> ids = new ArrayList<>(logs.size());
+        for (MaterialChangeLog log : logs) {
+            if (log.getChangeType() == MaterialChangeType.UPSERT) {
+                ids.add(log.getMaterialId());
+            }
+        }
+        Map<Long, MaterialResponseDto> materials = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            for (MaterialResponseDto material : materialRepository.findDtosByIdIn(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size())))) {
+                materials.put(material.getId(), material);
+            }
+        }
+        return materials;
+    }
+}
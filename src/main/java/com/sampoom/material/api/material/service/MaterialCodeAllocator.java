@@ -0,0 +1,189 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리별 자재 코드 할당기.
+ * DB 의 material_code_sequence 행을 잠그고 blockSize 만큼의 번호 구간을 한 번에 예약한 뒤,
+ * 인스턴스 안에서는 그 구간을 AtomicLong 으로 잠금 없이 나눠준다.
+ * - 구간 예약은 전용 커넥션 풀(material-code)의 별도 트랜잭션으로 바로 커밋하므로 다른 인스턴스와 번호가 겹치지 않고,
+ *   호출 중인 요청 트랜잭션이 커넥션을 잡은 채로 메인 풀에서 두 번째 커넥션을 기다리는 일이 없다.
+ * - 재기동 시 사용하지 않은 번호는 버려지므로 코드에 빈 번호가 생길 수 있다.
+ */
+@Slf4j
+@Component
+public class MaterialCodeAllocator implements AutoCloseable {
+
+    private static final int MIN_DIGITS = 4;
+
+    private static final String SELECT_FOR_UPDATE =
+            "SELECT next_value FROM material_code_sequence WHERE material_category_id = ? FOR UPDATE";
+    private static final String UPDATE_NEXT_VALUE =
+            "UPDATE material_code_sequence SET next_value = ? WHERE material_category_id = ?";
+    private static final String INSERT_SEQUENCE =
+            "INSERT INTO material_code_sequence (material_category_id, next_value) VALUES (?, ?)";
+    // 삭제된 자재(툼스톤)의 코드도 다시 발급하지 않도록 deleted 조건 없이 조회
+    private static final String SELECT_CODES_BY_PREFIX =
+            "SELECT material_code FROM material WHERE material_code LIKE ? ESCAPE '\\'";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public MaterialCodeAllocator(DataSourceProperties dataSourceProperties,
+                                 @Value("${material.code.block-size:100}") int blockSize,
+                                 @Value("${material.code.pool-size:2}") int poolSize) {
+        // 메인 풀과 같은 DB 에 붙는 작은 전용 풀 (커넥션은 첫 예약 시점에 연결)
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("material-code");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.blockSize = blockSize;
+    }
+
+    // 예: "MTL-0042"
+    public String next(MaterialCategoryResponseDto category) {
+        return format(category.getCode(), nextSequence(category.getId(), category.getCode()));
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    private long nextSequence(Long categoryId, String prefix) {
+        Slot slot = slots.computeIfAbsent(categoryId, id -> new Slot());
+        while (true) {
+            Block block = slot.block;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            // 구간 소진: 한 스레드만 새 구간을 예약하고 나머지는 교체된 구간에서 다시 시도
+            slot.refillLock.lock();
+            try {
+                if (slot.block == block) {
+                    slot.block = reserve(categoryId, prefix);
+                }
+            } finally {
+                slot.refillLock.unlock();
+            }
+        }
+    }
+
+    private Block reserve(Long categoryId, String prefix) {
+        try {
+            return transactionTemplate.execute(status -> reserveInTransaction(categoryId, prefix));
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 같은 카테고리의 행을 먼저 만든 경우: 잠금 조회로 다시 예약
+            return transactionTemplate.execute(status -> reserveInTransaction(categoryId, prefix));
+        }
+    }
+
+    private Block reserveInTransaction(Long categoryId, String prefix) {
+        Long nextValue = jdbcTemplate.query(SELECT_FOR_UPDATE,
+                rs -> rs.next() ? rs.getLong(1) : null, categoryId);
+        long start;
+        if (nextValue == null) {
+            start = initialValue(prefix);
+            jdbcTemplate.update(INSERT_SEQUENCE, categoryId, start + blockSize);
+        } else {
+            start = nextValue;
+            jdbcTemplate.update(UPDATE_NEXT_VALUE, start + blockSize, categoryId);
+        }
+        log.debug("Reserved material code block. categoryId={}, range=[{}, {})", categoryId, start, start + blockSize);
+        return new Block(start, start + blockSize);
+    }
+
+    // 할당기 도입 이전 데이터와 이어지도록 같은 접두사 코드의 가장 큰 번호 다음부터 시작
+    // (코드 문자열이나 ID 순서가 아닌 번호 값 기준: "MTL-10000" 이 "MTL-9999" 보다 뒤)
+    private long initialValue(String prefix) {
+        String codePrefix = prefix + "-";
+        AtomicLong max = new AtomicLong();
+        jdbcTemplate.query(SELECT_CODES_BY_PREFIX, rs -> {
+            long number = parseNumber(rs.getString(1), codePrefix.length());
+            if (number > max.get()) {
+                max.set(number);
+            }
+        }, prefixPattern(codePrefix));
+        return max.get() + 1;
+    }
+
+    // LIKE 특수문자(%, _) 를 이스케이프한 접두일치 패턴 (카테고리 코드의 '_' 가 다른 카테고리 코드와 일치하지 않도록)
+    static String prefixPattern(String codePrefix) {
+        return codePrefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    // 접두사 뒤가 숫자로만 이루어진 경우의 번호 (그 외 형식은 0)
+    static long parseNumber(String code, int offset) {
+        if (code == null || code.length() <= offset || code.length() - offset > 18) {
+            return 0;
+        }
+        long number = 0;
+        for (int i = offset; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    // String.format 없이 "{prefix}-{0 채운 4자리 이상 번호}" 를 한 번의 char[] 할당으로 만든다
+    static String format(String prefix, long sequence) {
+        int digits = 1;
+        for (long rest = sequence / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int width = Math.max(MIN_DIGITS, digits);
+        int prefixLength = prefix.length();
+
+        char[] code = new char[prefixLength + 1 + width];
+        prefix.getChars(0, prefixLength, code, 0);
+        code[prefixLength] = '-';
+        long rest = sequence;
+        for (int i = code.length - 1; i > prefixLength; i--) {
+            code[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        return new String(code);
+    }
+
+    private static final class Slot {
+        private final ReentrantLock refillLock = new ReentrantLock();
+        private volatile Block block = new Block(0, 0);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
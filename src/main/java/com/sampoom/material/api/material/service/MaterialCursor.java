@@ -0,0 +1,78 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 커서.
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩된 불투명 토큰으로만 노출된다.
+ * - ID 정렬 커서   : "i:{id}"
+ * - 이름 정렬 커서 : "n:{id}:{name}"
+ */
+public record MaterialCursor(Long id, String name) {
+
+    private static final String ID_PREFIX = "i:";
+    private static final String NAME_PREFIX = "n:";
+
+    public static MaterialCursor ofId(MaterialResponseDto material) {
+        return new MaterialCursor(material.getId(), null);
+    }
+
+    public static MaterialCursor ofName(MaterialResponseDto material) {
+        return new MaterialCursor(material.getId(), material.getName() == null ? "" : material.getName());
+    }
+
+    public String encode() {
+        String raw = (name == null) ? ID_PREFIX + id : NAME_PREFIX + id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 토큰은 첫 페이지를 의미한다
+    public static MaterialCursor decodeId(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = decodeRaw(token);
+        if (!raw.startsWith(ID_PREFIX)) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        return new MaterialCursor(parseId(raw.substring(ID_PREFIX.length())), null);
+    }
+
+    public static MaterialCursor decodeName(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = decodeRaw(token);
+        if (!raw.startsWith(NAME_PREFIX)) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        String body = raw.substring(NAME_PREFIX.length());
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        return new MaterialCursor(parseId(body.substring(0, separator)), body.substring(separator + 1));
+    }
+
+    private static String decodeRaw(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
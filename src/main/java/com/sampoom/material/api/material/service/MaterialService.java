@@ -1,176 +1,489 @@
 package com.sampoom.material.api.material.service;
 
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.cache.MaterialCountCache;
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.CursorResponseDto;
+import com.sampoom.material.api.material.dto.MaterialBatchItemDto;
+import com.sampoom.material.api.material.dto.MaterialBulkUpdateRequestDto;
 import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.dto.MaterialPatchRequestDto;
 import com.sampoom.material.api.material.dto.MaterialRequestDto;
 import com.sampoom.material.api.material.dto.MaterialResponseDto;
 import com.sampoom.material.api.material.dto.PageResponseDto;
 import com.sampoom.material.api.material.entity.Material;
-import com.sampoom.material.api.material.entity.MaterialCategory;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
 import com.sampoom.material.api.material.repository.MaterialCategoryRepository;
 import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.api.material.search.MaterialHangulIndex;
+import com.sampoom.material.api.material.search.MaterialSearchIndex;
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.exception.ConflictException;
+import com.sampoom.material.common.exception.GoneException;
 import com.sampoom.material.common.exception.NotFoundException;
-import com.sampoom.material.common.response.ApiResponse;
 import com.sampoom.material.common.response.ErrorStatus;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.GetMapping;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "material.service", description = "MaterialService 메서드 실행 시간")
 public class MaterialService {
 
     private final MaterialRepository materialRepository;
     private final MaterialCategoryRepository categoryRepository;
+    private final MaterialCategoryRegistry categoryRegistry;
+    private final MaterialCountCache countCache;
+    private final MaterialDetailCache detailCache;
+    private final MaterialSearchIndex searchIndex;
+    private final MaterialHangulIndex hangulIndex;
+    private final MaterialCodeAllocator codeAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    @Transactional
-    public PageResponseDto<MaterialResponseDto> getAllMaterials(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Material> materialsPage = materialRepository.findAll(pageRequest);
+    // 영속성 컨텍스트를 비우는 단위 (JDBC 배치 크기와 맞춘다)
+    @Value("${material.jpa.batch-size:500}")
+    private int bulkChunkSize;
 
-        List<MaterialResponseDto> materialDtos = materialsPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    // 커서 모드 한 번에 조회 가능한 최대 건수
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
-        return PageResponseDto.<MaterialResponseDto>builder()
-                .content(materialDtos)
-                .totalElements(materialsPage.getTotalElements())
-                .totalPages(materialsPage.getTotalPages())
-                .build();
+    // 다건 조회 한 번에 요청 가능한 최대 ID 수
+    private static final int MAX_BATCH_GET_SIZE = 5000;
+    // IN 절 바인드 변수 수 제한을 넘지 않도록 나눠서 조회
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    // 대량 등록/수정 한 번에 요청 가능한 최대 건수
+    private static final int MAX_BULK_SIZE = 10_000;
+
+    // 오프셋 모드도 호출 간 순서가 흔들리지 않도록 ID 기준으로 정렬
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "id");
+
+    @Transactional(readOnly = true)
+    public PageResponseDto<MaterialResponseDto> getAllMaterials(int page, int size, boolean withTotal) {
+        PageRequest pageRequest = PageRequest.of(page, size, DEFAULT_SORT);
+        Slice<MaterialResponseDto> materialsSlice = materialRepository.findDtoSlice(pageRequest);
+
+        // 총 건수는 요청한 경우에만 캐시에서 조회
+        Long totalElements = withTotal ? countCache.countAll() : null;
+        return toPageResponse(materialsSlice, totalElements);
     }
 
-    @Transactional
+    // 캐시 적중 시 트랜잭션/쿼리 없이 응답 (미적중 시에만 조회)
     public MaterialResponseDto getMaterialById(Long id) {
-        Material material = materialRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND));
-        return convertToDto(material);
+        return detailCache.get(id)
+                .orElseThrow(() -> notFoundOrDeleted(id));
+    }
+
+    // 상세 캐시에 없는 ID 만 IN 조회하고, 요청 순서대로 존재 여부와 함께 반환
+    public List<MaterialBatchItemDto> getMaterialsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.EMPTY_BATCH_REQUEST);
+        }
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new BadRequestException(ErrorStatus.BATCH_SIZE_EXCEEDED);
+        }
+
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, MaterialResponseDto> found = detailCache.getAll(distinctIds);
+
+        // 없는 ID 가 있을 때만 툼스톤 여부를 한 번에 확인
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        Set<Long> deletedIds = new HashSet<>();
+        for (int from = 0; from < missingIds.size(); from += IN_CHUNK_SIZE) {
+            deletedIds.addAll(materialRepository.findDeletedIdsIn(
+                    missingIds.subList(from, Math.min(from + IN_CHUNK_SIZE, missingIds.size()))));
+        }
+
+        return ids.stream()
+                .map(id -> {
+                    MaterialResponseDto material = (id == null) ? null : found.get(id);
+                    return MaterialBatchItemDto.builder()
+                            .id(id)
+                            .found(material != null)
+                            .deleted(id != null && deletedIds.contains(id))
+                            .material(material)
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
     @Transactional
     public MaterialResponseDto createMaterial(MaterialRequestDto requestDto) {
-        // 카테고리 조회
-        MaterialCategory category = categoryRepository.findById(requestDto.getMaterialCategoryId())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
+        // 카테고리 조회 (캐시된 스냅샷으로 검증하고 엔티티는 프록시 참조만 사용)
+        MaterialCategoryResponseDto category = categoryRegistry.getOrThrow(requestDto.getMaterialCategoryId());
 
         // 자재 코드 생성 (카테고리 코드 + 일련번호)
-        String materialCode = generateMaterialCode(category);
+        String materialCode = codeAllocator.next(category);
 
         // 자재 생성
         Material material = Material.builder()
                 .name(requestDto.getName())
                 .materialCode(materialCode)
-                .materialCategory(category)
+                .materialCategory(categoryRepository.getReferenceById(category.getId()))
                 .build();
 
         material = materialRepository.save(material);
-        return convertToDto(material);
+        MaterialResponseDto response = convertToDto(material, category);
+
+        eventPublisher.publishEvent(MaterialChangedEvent.created(response));
+        return response;
+    }
+
+
+    /**
+     * 자재 대량 등록.
+     * 시퀀스 ID + JDBC 배치로 INSERT 하고, 청크마다 flush/clear 해서 영속성 컨텍스트가 커지지 않도록 한다.
+     */
+    @Transactional
+    public List<MaterialResponseDto> createMaterials(List<MaterialRequestDto> requestDtos) {
+        validateBulkSize(requestDtos);
+
+        // 카테고리를 먼저 모두 검증 (하나라도 없으면 전체 실패)
+        List<MaterialCategoryResponseDto> categories = requestDtos.stream()
+                .map(requestDto -> categoryRegistry.getOrThrow(requestDto.getMaterialCategoryId()))
+                .collect(Collectors.toList());
+
+        List<MaterialResponseDto> responses = new ArrayList<>(requestDtos.size());
+        List<Material> chunk = new ArrayList<>(bulkChunkSize);
+        List<MaterialCategoryResponseDto> chunkCategories = new ArrayList<>(bulkChunkSize);
+
+        for (int i = 0; i < requestDtos.size(); i++) {
+            MaterialCategoryResponseDto category = categories.get(i);
+            chunk.add(Material.builder()
+                    .name(requestDtos.get(i).getName())
+                    .materialCode(codeAllocator.next(category))
+                    .materialCategory(categoryRepository.getReferenceById(category.getId()))
+                    .build());
+            chunkCategories.add(category);
+
+            if (chunk.size() == bulkChunkSize || i == requestDtos.size() - 1) {
+                materialRepository.saveAll(chunk);
+                flushAndClear();
+
+                for (int j = 0; j < chunk.size(); j++) {
+                    MaterialResponseDto response = convertToDto(chunk.get(j), chunkCategories.get(j));
+                    responses.add(response);
+                    eventPublisher.publishEvent(MaterialChangedEvent.created(response));
+                }
+                chunk.clear();
+                chunkCategories.clear();
+            }
+        }
+        return responses;
     }
 
+    /**
+     * 자재 대량 수정.
+     * 청크 단위로 IN 조회한 관리 상태 엔티티를 직접 변경하고 배치 UPDATE 로 반영한다.
+     */
+    @Transactional
+    public List<MaterialResponseDto> updateMaterials(List<MaterialBulkUpdateRequestDto> requestDtos) {
+        validateBulkSize(requestDtos);
+
+        List<MaterialResponseDto> responses = new ArrayList<>(requestDtos.size());
+
+        for (int from = 0; from < requestDtos.size(); from += bulkChunkSize) {
+            List<MaterialBulkUpdateRequestDto> chunk =
+                    requestDtos.subList(from, Math.min(from + bulkChunkSize, requestDtos.size()));
+
+            Map<Long, Material> materialsById = materialRepository.findAllWithCategoryByIdIn(
+                            chunk.stream().map(MaterialBulkUpdateRequestDto::getId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(Material::getId, Function.identity()));
+
+            List<Material> updated = new ArrayList<>(chunk.size());
+            List<MaterialCategoryResponseDto> updatedCategories = new ArrayList<>(chunk.size());
+            List<MaterialResponseDto> befores = new ArrayList<>(chunk.size());
+            for (MaterialBulkUpdateRequestDto requestDto : chunk) {
+                Material material = materialsById.get(requestDto.getId());
+                if (material == null) {
+                    throw new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND);
+                }
+                MaterialCategoryResponseDto newCategory = categoryRegistry.getOrThrow(requestDto.getMaterialCategoryId());
+                MaterialResponseDto before = convertToDto(material);
+
+                // 카테고리가 변경된 경우 코드도 변경
+                String materialCode = newCategory.getId().equals(before.getMaterialCategoryId())
+                        ? material.getMaterialCode()
+                        : codeAllocator.next(newCategory);
+
+                material.update(requestDto.getName(), materialCode,
+                        categoryRepository.getReferenceById(newCategory.getId()));
+
+                updated.add(material);
+                updatedCategories.add(newCategory);
+                befores.add(before);
+            }
+            flushAndClear();
+
+            // flush 시 증가한 버전이 응답에 담기도록 flush 이후에 DTO 를 만든다
+            for (int i = 0; i < updated.size(); i++) {
+                MaterialResponseDto response = convertToDto(updated.get(i), updatedCategories.get(i));
+                responses.add(response);
+                eventPublisher.publishEvent(MaterialChangedEvent.updated(befores.get(i), response));
+            }
+        }
+        return responses;
+    }
 
+    /**
+     * 자재 수정 (전체 필드).
+     * 조회한 관리 상태 엔티티를 그대로 변경하므로 merge 없이 dirty checking 으로 UPDATE 한 번만 실행된다.
+     */
     @Transactional
     public MaterialResponseDto updateMaterial(Long id, MaterialRequestDto requestDto) {
         // 자재 조회
-        Material material = materialRepository.findById(id)
+        Material material = materialRepository.findWithCategoryById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND));
 
         // 새 카테고리 조회
-        MaterialCategory newCategory = categoryRepository.findById(requestDto.getMaterialCategoryId())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
+        MaterialCategoryResponseDto newCategory = categoryRegistry.getOrThrow(requestDto.getMaterialCategoryId());
 
+        MaterialResponseDto before = convertToDto(material);
         String materialCode = material.getMaterialCode();
 
         // 카테고리가 변경된 경우 코드도 변경
-        if (!material.getMaterialCategory().getId().equals(requestDto.getMaterialCategoryId())) {
-            // 기존에 구현된 generateMaterialCode 함수 활용
-            materialCode = generateMaterialCode(newCategory);
+        if (!newCategory.getId().equals(before.getMaterialCategoryId())) {
+            materialCode = codeAllocator.next(newCategory);
         }
 
         // 자재 업데이트
-        Material updatedMaterial = Material.builder()
-                .id(material.getId())
-                .name(requestDto.getName())
-                .materialCode(materialCode)
-                .materialCategory(newCategory)
-                .build();
+        material.update(requestDto.getName(), materialCode,
+                categoryRepository.getReferenceById(newCategory.getId()));
 
-        materialRepository.save(updatedMaterial);
+        // 버전 충돌을 이 자리에서 드러내고, 증가한 버전을 응답에 담는다
+        entityManager.flush();
+        MaterialResponseDto response = convertToDto(material, newCategory);
 
-        return convertToDto(updatedMaterial);
+        eventPublisher.publishEvent(MaterialChangedEvent.updated(before, response));
+        return response;
     }
 
+    /**
+     * 자재 부분 수정.
+     * 요청에 포함된 필드만 변경하고, @DynamicUpdate 로 바뀐 컬럼만 UPDATE ... WHERE version = ? 한 번으로 반영한다.
+     * 요청의 version 이 현재 버전과 다르거나 커밋 전에 다른 수정이 먼저 반영되면 409 를 반환한다.
+     */
     @Transactional
-    public void deleteMaterial(Long id) {
-        Material material = materialRepository.findById(id)
+    public MaterialResponseDto patchMaterial(Long id, MaterialPatchRequestDto requestDto) {
+        Material material = materialRepository.findWithCategoryById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND));
-        materialRepository.delete(material);
+
+        if (requestDto.getVersion() != null && !requestDto.getVersion().equals(material.getVersion())) {
+            throw new ConflictException(ErrorStatus.MATERIAL_VERSION_CONFLICT);
+        }
+
+        MaterialResponseDto before = convertToDto(material);
+        boolean changed = false;
+
+        if (requestDto.getName() != null && !requestDto.getName().equals(before.getName())) {
+            material.rename(requestDto.getName());
+            changed = true;
+        }
+
+        MaterialCategoryResponseDto category = null;
+        if (requestDto.getMaterialCategoryId() != null
+                && !requestDto.getMaterialCategoryId().equals(before.getMaterialCategoryId())) {
+            // 카테고리가 변경된 경우 코드도 변경
+            category = categoryRegistry.getOrThrow(requestDto.getMaterialCategoryId());
+            material.changeCategory(codeAllocator.next(category), categoryRepository.getReferenceById(category.getId()));
+            changed = true;
+        }
+
+        // 바뀐 값이 없으면 UPDATE 도 이벤트도 없다
+        if (!changed) {
+            return before;
+        }
+
+        entityManager.flush();
+        MaterialResponseDto response = (category != null) ? convertToDto(material, category) : convertToDto(material);
+
+        eventPublisher.publishEvent(MaterialChangedEvent.updated(before, response));
+        return response;
+    }
+
+    /**
+     * 자재 삭제 (소프트 삭제).
+     * 툼스톤 표시는 UPDATE 한 번이다. 삭제 이벤트(변경 이력, 색인/캐시 반영)에 삭제 전 상태가 필요하므로
+     * 스냅샷은 상세 캐시에서 가져오며, 캐시에 없을 때만 SELECT 가 한 번 더 실행된다.
+     */
+    @Transactional
+    public void deleteMaterial(Long id) {
+        MaterialResponseDto before = detailCache.get(id)
+                .orElseThrow(() -> notFoundOrDeleted(id));
+
+        // 스냅샷 조회 후 다른 요청이 먼저 삭제한 경우
+        if (materialRepository.softDeleteByIdIn(List.of(id), deletionTime()) == 0) {
+            throw notFoundOrDeleted(id);
+        }
+        eventPublisher.publishEvent(MaterialChangedEvent.deleted(before));
+    }
+
+    /**
+     * 자재 대량 삭제 (소프트 삭제).
+     * 스냅샷은 상세 캐시에서 한꺼번에 가져오고(캐시에 없는 ID 만 한 번에 SELECT), 툼스톤 표시는 UPDATE ... WHERE id IN (...) 한 문장으로 처리한다.
+     * 없거나 이미 삭제된 ID 는 무시하고, 실제로 삭제한 ID 목록을 반환한다 (삭제 이벤트도 그 ID 에만 발행).
+     */
+    @Transactional
+    public List<Long> deleteMaterials(List<Long> ids) {
+        validateBulkSize(ids);
+
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, MaterialResponseDto> snapshots = detailCache.getAll(distinctIds);
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime deletedAt = deletionTime();
+        int deleted = materialRepository.softDeleteByIdIn(snapshots.keySet(), deletedAt);
+        // 스냅샷 조회와 UPDATE 사이에 다른 요청이 일부를 먼저 삭제한 경우에만, 이 UPDATE 가 삭제한 ID 를 다시 조회한다
+        // (이미 삭제된 자재에 이벤트를 또 발행하면 DELETE 이력/아웃박스가 중복되고 건수 캐시가 두 번 줄어든다)
+        Set<Long> updatedIds = (deleted == snapshots.size())
+                ? snapshots.keySet()
+                : new HashSet<>(materialRepository.findIdsDeletedAt(snapshots.keySet(), deletedAt));
+
+        List<Long> deletedIds = new ArrayList<>(updatedIds.size());
+        for (Long id : distinctIds) {
+            if (updatedIds.contains(id)) {
+                deletedIds.add(id);
+                eventPublisher.publishEvent(MaterialChangedEvent.deleted(snapshots.get(id)));
+            }
+        }
+        return deletedIds;
     }
 
     @Transactional(readOnly = true)
-    public PageResponseDto<MaterialResponseDto> getMaterialsByCategory(Long categoryId, int page, int size) {
+    public PageResponseDto<MaterialResponseDto> getMaterialsByCategory(Long categoryId, int page, int size, boolean withTotal) {
         // 카테고리 존재 여부 확인
-        MaterialCategory category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
+        categoryRegistry.getOrThrow(categoryId);
 
         // 페이지네이션 설정
-        PageRequest pageRequest = PageRequest.of(page, size);
+        PageRequest pageRequest = PageRequest.of(page, size, DEFAULT_SORT);
 
         // 해당 카테고리의 자재 조회
-        Page<Material> materialsPage = materialRepository.findByMaterialCategoryId(categoryId, pageRequest);
-
-        List<MaterialResponseDto> materialDtos = materialsPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        Slice<MaterialResponseDto> materialsSlice = materialRepository.findDtoSliceByCategoryId(categoryId, pageRequest);
 
-        return PageResponseDto.<MaterialResponseDto>builder()
-                .content(materialDtos)
-                .totalElements(materialsPage.getTotalElements())
-                .totalPages(materialsPage.getTotalPages())
-                .build();
+        Long totalElements = withTotal ? countCache.countByCategory(categoryId) : null;
+        return toPageResponse(materialsSlice, totalElements);
     }
 
     @Transactional(readOnly = true)
-    public PageResponseDto<MaterialResponseDto> searchMaterials(String keyword, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Material> materialsPage;
+    public PageResponseDto<MaterialResponseDto> searchMaterials(String keyword, int page, int size, boolean withTotal) {
+        PageRequest pageRequest = PageRequest.of(page, size, DEFAULT_SORT);
+        Slice<MaterialResponseDto> materialsSlice;
+        Long totalElements = null;
 
         if (keyword == null || keyword.trim().isEmpty()) {
-            materialsPage = materialRepository.findAll(pageRequest);
+            materialsSlice = materialRepository.findDtoSlice(pageRequest);
+            if (withTotal) {
+                totalElements = countCache.countAll();
+            }
+        } else if (searchIndex.isReady()) {
+            // 색인에서 해당 페이지의 ID 만 구한 뒤 그 ID 들만 조회
+            return searchFromIndex(keyword, pageRequest, withTotal);
         } else {
-            materialsPage = materialRepository.findByNameContainingIgnoreCaseOrMaterialCodeContainingIgnoreCase(
-                    keyword, keyword, pageRequest);
+            materialsSlice = materialRepository.searchDtoSlice(toLikePattern(keyword), pageRequest);
+            if (withTotal) {
+                totalElements = countCache.countByKeyword(keyword);
+            }
         }
 
-        List<MaterialResponseDto> materialDtos = materialsPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toPageResponse(materialsSlice, totalElements);
+    }
 
-        return PageResponseDto.<MaterialResponseDto>builder()
-                .content(materialDtos)
-                .totalElements(materialsPage.getTotalElements())
-                .totalPages(materialsPage.getTotalPages())
-                .build();
+    @Transactional(readOnly = true)
+    public PageResponseDto<MaterialResponseDto> searchMaterialsByHangul(String keyword, int page, int size) {
+        // 검색어가 없거나 색인 적재 전이면 일반 검색으로 처리
+        if (keyword == null || keyword.trim().isEmpty() || !hangulIndex.isReady()) {
+            return searchMaterials(keyword, page, size, true);
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size);
+        List<Long> rankedIds = hangulIndex.search(keyword);
+
+        int from = (int) Math.min(pageRequest.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageRequest.getPageSize(), rankedIds.size());
+
+        return toPageResponse(findAllInOrder(rankedIds.subList(from, to)),
+                (long) rankedIds.size(), pageRequest.getPageSize(), to < rankedIds.size());
     }
 
     @Transactional(readOnly = true)
-    public List<MaterialCategoryResponseDto> getAllCategories() {
-        List<MaterialCategory> categories = categoryRepository.findAll();
-        return categories.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorResponseDto<MaterialResponseDto> getAllMaterialsAfter(String after, int size) {
+        MaterialCursor cursor = MaterialCursor.decodeId(after);
+        Pageable limit = cursorLimit(size);
+
+        List<MaterialResponseDto> materials = (cursor == null)
+                ? materialRepository.findFirstPage(limit)
+                : materialRepository.findPageAfter(cursor.id(), limit);
+
+        return toCursorResponse(materials, limit.getPageSize() - 1, MaterialCursor::ofId);
     }
 
-    private MaterialCategoryResponseDto convertToDto(MaterialCategory category) {
-        return MaterialCategoryResponseDto.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .code(category.getCode())
-                .build();
+    @Transactional(readOnly = true)
+    public CursorResponseDto<MaterialResponseDto> getMaterialsByCategoryAfter(Long categoryId, String after, int size) {
+        // 카테고리 존재 여부 확인
+        categoryRegistry.getOrThrow(categoryId);
+
+        MaterialCursor cursor = MaterialCursor.decodeId(after);
+        Pageable limit = cursorLimit(size);
+
+        List<MaterialResponseDto> materials = (cursor == null)
+                ? materialRepository.findFirstPageByCategory(categoryId, limit)
+                : materialRepository.findPageByCategoryAfter(categoryId, cursor.id(), limit);
+
+        return toCursorResponse(materials, limit.getPageSize() - 1, MaterialCursor::ofId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponseDto<MaterialResponseDto> searchMaterialsAfter(String keyword, String after, int size) {
+        // 검색어가 없으면 전체 목록과 동일하게 ID 기준 커서 사용
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getAllMaterialsAfter(after, size);
+        }
+
+        MaterialCursor cursor = MaterialCursor.decodeName(after);
+        Pageable limit = cursorLimit(size);
+        String pattern = toLikePattern(keyword);
+
+        List<MaterialResponseDto> materials = (cursor == null)
+                ? materialRepository.searchFirstPage(pattern, limit)
+                : materialRepository.searchPageAfter(pattern, cursor.name(), cursor.id(), limit);
+
+        return toCursorResponse(materials, limit.getPageSize() - 1, MaterialCursor::ofName);
+    }
+
+    public List<MaterialCategoryResponseDto> getAllCategories() {
+        return categoryRegistry.getAll();
     }
 
     private MaterialResponseDto convertToDto(Material material) {
@@ -180,29 +493,124 @@ public class MaterialService {
                 .materialCode(material.getMaterialCode())
                 .materialCategoryId(material.getMaterialCategory().getId())
                 .materialCategoryName(material.getMaterialCategory().getName())
+                .version(material.getVersion())
                 .build();
     }
 
-    // 자재 코드 생성 메서드
-    private String generateMaterialCode(MaterialCategory category) {
-        // 카테고리 코드 가져오기 (예: "METAL")
-        String categoryCode = category.getCode();
+    // 카테고리 프록시를 초기화하지 않도록 스냅샷의 카테고리 정보를 사용
+    private MaterialResponseDto convertToDto(Material material, MaterialCategoryResponseDto category) {
+        return MaterialResponseDto.builder()
+                .id(material.getId())
+                .name(material.getName())
+                .materialCode(material.getMaterialCode())
+                .materialCategoryId(category.getId())
+                .materialCategoryName(category.getName())
+                .version(material.getVersion())
+                .build();
+    }
 
-        // 해당 카테고리의 최대 일련번호 조회
-        String latestCode = materialRepository.findTopByCategoryOrderByCodeDesc(category.getId());
+    private PageResponseDto<MaterialResponseDto> searchFromIndex(String keyword, PageRequest pageRequest, boolean withTotal) {
+        List<Long> ids = searchIndex.search(keyword)
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getPageSize() + 1L)
+                .collect(Collectors.toList());
 
-        int sequence = 1; // 기본값
-        if (latestCode != null && latestCode.contains("-")) {
-            // 예: "METAL-0001"에서 "0001" 부분 추출
-            String numberPart = latestCode.split("-")[1];
-            try {
-                sequence = Integer.parseInt(numberPart) + 1;
-            } catch (NumberFormatException e) {
-                // 숫자 파싱 실패 시 기본값 1 사용
-            }
+        boolean hasNext = ids.size() > pageRequest.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, pageRequest.getPageSize()) : ids;
+
+        // 매칭 건수는 검색어별로 캐시한다 (요청마다 전체 매칭 결과를 다시 세지 않도록)
+        Long totalElements = withTotal ? countCache.countByKeyword(keyword, () -> searchIndex.search(keyword).count()) : null;
+        return toPageResponse(findAllInOrder(pageIds), totalElements, pageRequest.getPageSize(), hasNext);
+    }
+
+    // IN 조회 결과를 전달받은 ID 순서대로 정렬
+    private List<MaterialResponseDto> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Map<Long, MaterialResponseDto> materialsById = materialRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(MaterialResponseDto::getId, Function.identity()));
+        return ids.stream()
+                .map(materialsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        // 포맷: "METAL-0001"
-        return String.format("%s-%04d", categoryCode, sequence);
+    private PageResponseDto<MaterialResponseDto> toPageResponse(Slice<MaterialResponseDto> slice, Long totalElements) {
+        return toPageResponse(slice.getContent(), totalElements, slice.getSize(), slice.hasNext());
     }
+
+    // totalElements 가 null 이면 총 건수/페이지 수 없이 hasNext 만 내려준다
+    private PageResponseDto<MaterialResponseDto> toPageResponse(List<MaterialResponseDto> content, Long totalElements,
+                                                                int size, boolean hasNext) {
+        Integer totalPages = (totalElements == null)
+                ? null
+                : (int) Math.ceil((double) totalElements / size);
+
+        return PageResponseDto.<MaterialResponseDto>builder()
+                .content(content)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 다음 페이지 존재 여부 판단을 위해 size + 1 건 조회
+    private Pageable cursorLimit(int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private CursorResponseDto<MaterialResponseDto> toCursorResponse(List<MaterialResponseDto> materials, int size,
+                                                                    Function<MaterialResponseDto, MaterialCursor> cursorOf) {
+        boolean hasNext = materials.size() > size;
+        List<MaterialResponseDto> pageContent = hasNext ? materials.subList(0, size) : materials;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(pageContent.get(pageContent.size() - 1)).encode()
+                : null;
+
+        return CursorResponseDto.<MaterialResponseDto>builder()
+                .content(pageContent)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // LIKE 특수문자(%, _) 이스케이프 후 소문자 부분일치 패턴 생성
+    private String toLikePattern(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private void validateBulkSize(List<?> requestDtos) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.EMPTY_BATCH_REQUEST);
+        }
+        if (requestDtos.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException(ErrorStatus.BATCH_SIZE_EXCEEDED);
+        }
+    }
+
+    // DB 컬럼 정밀도(마이크로초)에 맞춰 두어야 findIdsDeletedAt 의 deleted_at 비교가 맞는다
+    private static LocalDateTime deletionTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // 툼스톤이 남아 있으면 404 대신 410 으로 삭제 사실을 알린다
+    private RuntimeException notFoundOrDeleted(Long id) {
+        if (!materialRepository.findDeletedIdsIn(List.of(id)).isEmpty()) {
+            return new GoneException(ErrorStatus.MATERIAL_DELETED);
+        }
+        return new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
 }
\ No newline at end of file
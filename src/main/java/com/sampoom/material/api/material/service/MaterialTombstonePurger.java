@@ -0,0 +1,59 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 소프트 삭제된 자재(툼스톤) 정리.
+ * 보관 기간(retention)이 지난 툼스톤을 batchSize 건씩 별도 트랜잭션으로 물리 삭제한다.
+ * 배치마다 커밋하므로 잠금이 짧고, API 요청 경로와 무관하게 백그라운드에서 실행된다.
+ */
+@Slf4j
+@Component
+public class MaterialTombstonePurger {
+
+    private final MaterialRepository materialRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public MaterialTombstonePurger(MaterialRepository materialRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${material.tombstone.retention:30d}") Duration retention,
+                                   @Value("${material.tombstone.purge-batch-size:1000}") int batchSize) {
+        this.materialRepository = materialRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${material.tombstone.purge-interval-ms:3600000}",
+            initialDelayString = "${material.tombstone.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long purged = 0;
+        long startedAt = System.nanoTime();
+        try {
+            int deleted;
+            do {
+                Integer result = transactionTemplate.execute(status -> materialRepository.purgeTombstones(cutoff, batchSize));
+                deleted = (result == null) ? 0 : result;
+                purged += deleted;
+            } while (deleted == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Material tombstone purge failed, will retry. purged={}", purged, e);
+            return;
+        }
+        if (purged > 0) {
+            log.info("Material tombstones purged. count={}, cutoff={}, elapsed={}ms",
+                    purged, cutoff, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+}
@@ -1,31 +1,52 @@
 package com.sampoom.material.common.config;
 
 import com.opencsv.CSVReader;
+import com.sampoom.material.api.material.cache.MaterialCountCache;
 import com.sampoom.material.api.material.entity.Material;
 import com.sampoom.material.api.material.entity.MaterialCategory;
 import com.sampoom.material.api.material.repository.MaterialCategoryRepository;
 import com.sampoom.material.api.material.repository.MaterialRepository;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * 초기 자재 마스터 적재.
+ * CSV 를 한 줄씩 읽어 chunkSize 단위로 저장/커밋하고, 청크마다 영속성 컨텍스트를 비워
+ * 파일 크기와 상관없이 메모리 사용량이 일정하게 유지되도록 한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class DataInitializer implements CommandLineRunner {
 
+    private static final String CSV_PATH = "/data/materials_master_cleaned.csv";
+
+    // 진행 상황 로그 간격 (행 수)
+    private static final int PROGRESS_LOG_INTERVAL = 10_000;
+
     private final MaterialRepository materialRepository;
     private final MaterialCategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final MaterialCountCache countCache;
+
+    // 한 트랜잭션에서 저장할 행 수 (JDBC 배치 크기의 배수로 맞춘다)
+    @Value("${material.import.chunk-size:1000}")
+    private int chunkSize;
 
     @Override
     public void run(String... args) throws Exception {
@@ -34,75 +55,107 @@ public class DataInitializer implements CommandLineRunner {
             return;
         }
 
-        log.info("Importing CSV data into PostgreSQL...");
+        log.info("Importing CSV data into PostgreSQL... chunkSize={}", chunkSize);
+
+        // CSV 의 카테고리 ID -> 실제 저장된 카테고리 ID
+        Map<Long, Long> categoryIds = new HashMap<>();
+        List<String[]> chunk = new ArrayList<>(chunkSize);
+        long inserted = 0;
+        long nextProgressLog = PROGRESS_LOG_INTERVAL;
+        long startedAt = System.nanoTime();
 
         try (Reader reader = new InputStreamReader(
-                Objects.requireNonNull(getClass().getResourceAsStream("/data/materials_master_cleaned.csv")),
-                "UTF-8");
+                Objects.requireNonNull(getClass().getResourceAsStream(CSV_PATH)),
+                StandardCharsets.UTF_8);
              CSVReader csvReader = new CSVReader(reader)) {
 
-            List<String[]> rows = csvReader.readAll();
             // 첫 줄 헤더 제거
-            rows.remove(0);
+            csvReader.readNext();
+
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    inserted += saveChunk(chunk, categoryIds);
+                    chunk.clear();
+                }
+                if (inserted >= nextProgressLog) {
+                    logProgress(inserted, startedAt);
+                    nextProgressLog += PROGRESS_LOG_INTERVAL;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inserted += saveChunk(chunk, categoryIds);
+            }
+        }
+
+        // 변경 이벤트 없이 저장했으므로 적재 도중 캐시된 건수를 버린다
+        countCache.clear();
 
-            Map<Long, MaterialCategory> categoryCache = new HashMap<>();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("CSV import completed. Inserted materials: {}, elapsed: {}s, throughput: {} rows/s",
+                inserted, String.format("%.2f", seconds), Math.round(inserted / Math.max(seconds, 0.001)));
+    }
 
+    // 청크 하나를 하나의 트랜잭션으로 저장하고 커밋한다
+    private int saveChunk(List<String[]> rows, Map<Long, Long> categoryIds) {
+        Integer saved = transactionTemplate.execute(status -> {
+            List<Material> materials = new ArrayList<>(rows.size());
             for (String[] row : rows) {
-                Long id = Long.parseLong(row[0]);
                 Long categoryId = Long.parseLong(row[1]);
                 String categoryName = row[2];
                 String code = row[3];
                 String name = row[4];
 
-                // 카테고리 처리 로직 수정
-                MaterialCategory category = categoryCache.get(categoryId);
-                if (category == null) {
-                    // DB에서 먼저 찾고, 없으면 새로 생성
-                    category = categoryRepository.findById(categoryId).orElse(null);
-                    if (category == null) {
-                        // 카테고리 ID에 따라 적절한 접두사 선택
-                        String prefix;
-                        switch(categoryId.intValue()) {
-                            case 1:
-                                prefix = "MTL";
-                                break;
-                            case 2:
-                                prefix = "PLS";
-                                break;
-                            case 3:
-                                prefix = "ELC";
-                                break;
-                            case 4:
-                                prefix = "CHM";
-                                break;
-                            default:
-                                prefix = "CAT";
-                                break;
-                        }
-
-                        category = MaterialCategory.builder()
-                                .name(categoryName)
-                                .code(prefix)
-                                .build();
-                        // ID는 명시적으로 설정하지 않음 (자동 생성)
-                        category = categoryRepository.save(category);
-                    }
-                    categoryCache.put(categoryId, category);
-                }
+                Long savedCategoryId = categoryIds.computeIfAbsent(categoryId,
+                        id -> findOrCreateCategory(id, categoryName).getId());
 
-                // 자재 저장 (기존과 동일)
-                Material material = Material.builder()
+                materials.add(Material.builder()
                         .name(name)
                         .materialCode(code)
-                        .materialCategory(category)
-                        .build();
-
-                materialRepository.save(material);
+                        // 카테고리는 ID 만 필요하므로 프록시 참조로 연결 (추가 조회 없음)
+                        .materialCategory(categoryRepository.getReferenceById(savedCategoryId))
+                        .build());
             }
+            materialRepository.saveAll(materials);
+
+            // 배치 INSERT 를 내보내고 영속성 컨텍스트를 비워 다음 청크에 엔티티가 쌓이지 않도록 한다
+            entityManager.flush();
+            entityManager.clear();
+            return materials.size();
+        });
+        return saved == null ? 0 : saved;
+    }
 
-            log.info("CSV import completed. Inserted materials: " + materialRepository.count());
-
+    private MaterialCategory findOrCreateCategory(Long categoryId, String categoryName) {
+        // DB에서 먼저 찾고, 없으면 새로 생성
+        return categoryRepository.findById(categoryId)
+                .orElseGet(() -> categoryRepository.save(MaterialCategory.builder()
+                        .name(categoryName)
+                        .code(prefixOf(categoryId))
+                        // ID는 명시적으로 설정하지 않음 (자동 생성)
+                        .build()));
+    }
 
+    // 카테고리 ID에 따라 적절한 접두사 선택
+    private String prefixOf(Long categoryId) {
+        switch (categoryId.intValue()) {
+            case 1:
+                return "MTL";
+            case 2:
+                return "PLS";
+            case 3:
+                return "ELC";
+            case 4:
+                return "CHM";
+            default:
+                return "CAT";
         }
     }
-}
\ No newline at end of file
+
+    private void logProgress(long inserted, long startedAt) {
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("CSV import in progress. inserted={}, throughput={} rows/s",
+                inserted, Math.round(inserted / Math.max(seconds, 0.001)));
+    }
+}
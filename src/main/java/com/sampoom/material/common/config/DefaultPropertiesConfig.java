@@ -0,0 +1,13 @@
+package com.sampoom.material.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 저장소에 포함된 기본 설정값 등록.
+ * application.properties 는 배포 시 주입되므로, 코드가 기대하는 기본값은 이 파일에 둔다.
+ */
+@Configuration
+@PropertySource(value = "classpath:config/material-defaults.properties", encoding = "UTF-8")
+public class DefaultPropertiesConfig {
+}
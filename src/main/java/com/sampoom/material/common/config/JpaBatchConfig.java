@@ -0,0 +1,25 @@
+package com.sampoom.material.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 INSERT/UPDATE 설정.
+ * spring.jpa.properties.* 로 명시한 값이 있으면 그 값을 우선한다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${material.jpa.batch-size:500}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
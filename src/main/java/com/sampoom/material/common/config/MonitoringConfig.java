@@ -0,0 +1,37 @@
+package com.sampoom.material.common.config;
+
+import com.sampoom.material.common.monitoring.SqlStatementCounter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 모니터링 설정.
+ * - @Timed (MaterialController, MaterialService) 타이머
+ * - Hibernate 통계(hibernate.* 지표), SQL 문 수 집계, 느린 쿼리 로그 (org.hibernate.SQL_SLOW)
+ * spring.jpa.properties.* 로 명시한 값이 있으면 그 값을 우선한다.
+ */
+@Configuration
+public class MonitoringConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer monitoringCustomizer(
+            @Value("${material.jpa.slow-query-threshold:300ms}") Duration slowQueryThreshold) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.putIfAbsent(AvailableSettings.LOG_SLOW_QUERY, slowQueryThreshold.toMillis());
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+        };
+    }
+}
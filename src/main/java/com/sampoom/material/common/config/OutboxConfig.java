@@ -0,0 +1,24 @@
+package com.sampoom.material.common.config;
+
+import com.sampoom.material.api.material.outbox.InMemoryMaterialEventPublisher;
+import com.sampoom.material.api.material.outbox.MaterialEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자재 변경 이벤트 발행기 설정.
+ * 메모리 발행기는 아무도 읽지 않으므로 material.outbox.publisher=in-memory 로 명시한 경우(테스트/로컬)에만 등록한다.
+ * 운영에서는 브로커 연동 MaterialEventPublisher 빈을 등록해야 하며, 없으면 릴레이가 아웃박스 행을 지우지 않고 남겨 둔다.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "material.outbox.publisher", havingValue = "in-memory")
+    public MaterialEventPublisher inMemoryMaterialEventPublisher(
+            @Value("${material.outbox.in-memory.capacity:10000}") int capacity) {
+        return new InMemoryMaterialEventPublisher(capacity);
+    }
+}
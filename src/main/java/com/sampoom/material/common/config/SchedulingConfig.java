@@ -0,0 +1,13 @@
+package com.sampoom.material.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 실행 (아웃박스 릴레이, 툼스톤 정리, 변경 이력 정리, 인스턴스 간 캐시 동기화).
+ * 특정 기능 설정에 두면 그 기능을 끌 때 다른 주기 작업까지 함께 멈추므로 따로 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
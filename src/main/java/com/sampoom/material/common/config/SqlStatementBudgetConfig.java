@@ -0,0 +1,44 @@
+package com.sampoom.material.common.config;
+
+import com.sampoom.material.common.monitoring.SqlStatementBudget;
+import com.sampoom.material.common.monitoring.SqlStatementBudgetInterceptor;
+import com.sampoom.material.common.monitoring.SqlStatementTransactionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 런타임 N+1 탐지 (material.sql.budget.enabled=true 일 때만 적용).
+ * 요청/트랜잭션마다 SQL 문 수를 material.sql.statements 로 기록하고, 예산을 넘으면 경고 로그를 남긴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "material.sql.budget.enabled", havingValue = "true")
+public class SqlStatementBudgetConfig implements WebMvcConfigurer {
+
+    private final SqlStatementBudget budget;
+
+    public SqlStatementBudgetConfig(MeterRegistry meterRegistry,
+                                    @Value("${material.sql.budget.per-request:10}") long perRequest,
+                                    @Value("${material.sql.budget.per-transaction:10}") long perTransaction) {
+        this.budget = new SqlStatementBudget(meterRegistry, perRequest, perTransaction);
+    }
+
+    // Spring Boot 가 트랜잭션 매니저에 등록한다
+    @Bean
+    public SqlStatementTransactionListener sqlStatementTransactionListener() {
+        return new SqlStatementTransactionListener(budget);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 304 / 캐시 응답으로 끝나는 요청도 집계되도록 가장 먼저 실행
+        registry.addInterceptor(new SqlStatementBudgetInterceptor(budget))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
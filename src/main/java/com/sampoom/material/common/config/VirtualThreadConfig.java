@@ -0,0 +1,64 @@
+package com.sampoom.material.common.config;
+
+import com.sampoom.material.common.filter.ConcurrencyLimitedDataSource;
+import com.sampoom.material.common.filter.DatabaseConcurrencyLimitFilter;
+import com.sampoom.material.common.filter.DatabaseConcurrencyLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true 일 때만 적용).
+ * 요청 처리 스레드 자체는 Spring Boot 가 가상 스레드로 바꿔 주므로,
+ * 여기서는 DB 커넥션 풀을 넘지 않도록 API 요청이 동시에 DB 를 쓰는 수만 제한한다.
+ * 요청과 @Scheduled 작업이 가상 스레드에서 실행되므로, DB 호출을 감싸는 락은 모두 synchronized 대신 ReentrantLock 을 쓴다
+ * (Java 21 에서는 synchronized 안에서 블로킹하면 가상 스레드가 캐리어 스레드에 고정된다).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            // 0 이하이면 커넥션 풀 최대 크기 - connection-headroom 을 사용
+            @Value("${material.virtual-threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${material.virtual-threads.connection-headroom:2}") int connectionHeadroom,
+            @Value("${material.virtual-threads.acquire-timeout:2s}") Duration acquireTimeout) {
+        int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests : Math.max(1, poolSize - connectionHeadroom);
+        log.info("Virtual thread mode enabled. maxConcurrentRequests={}, poolSize={}, acquireTimeout={}",
+                limit, poolSize, acquireTimeout);
+        return new DatabaseConcurrencyLimiter(limit, acquireTimeout);
+    }
+
+    @Bean
+    public FilterRegistrationBean<DatabaseConcurrencyLimitFilter> databaseConcurrencyLimitFilter(DatabaseConcurrencyLimiter limiter) {
+        FilterRegistrationBean<DatabaseConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new DatabaseConcurrencyLimitFilter(limiter));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // 애플리케이션 DataSource 에서 커넥션을 꺼낼 때 요청의 허가를 받도록 감싼다
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<DatabaseConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
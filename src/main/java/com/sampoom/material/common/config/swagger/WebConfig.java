@@ -1,21 +1,46 @@
 package com.sampoom.material.common.config.swagger;
 
 
+import com.sampoom.material.api.material.controller.CatalogETagInterceptor;
+import com.sampoom.material.api.material.controller.HotResponseCacheInterceptor;
+import com.sampoom.material.api.material.controller.MaterialController;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final CatalogETagInterceptor catalogETagInterceptor;
+    private final HotResponseCacheInterceptor hotResponseCacheInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 경로 허용
                 .allowedOrigins("http://localhost:3000")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                // 조건부 GET 용 ETag, 전체 내보내기의 리비전을 프론트에서 읽을 수 있도록 노출
+                .exposedHeaders(HttpHeaders.ETAG, MaterialController.REVISION_HEADER)
                 .allowCredentials(true) // 쿠키 허용 시 필요
                 .maxAge(3600); // preflight 캐싱 시간 (초)
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 카탈로그 데이터를 응답하는 조회 API 에만 적용 (캐시 통계, 내보내기, 가져오기 작업 상태, 변경분 조회는 제외)
+        registry.addInterceptor(catalogETagInterceptor)
+                .addPathPatterns("/api/materials", "/api/materials/**")
+                .excludePathPatterns("/api/materials/caches", "/api/materials/export", "/api/materials/import/**",
+                        "/api/materials/changes");
+
+        // 카테고리 목록과 목록 첫 페이지는 직렬화된 바이트로 응답 (ETag 304 처리 이후에 실행)
+        registry.addInterceptor(hotResponseCacheInterceptor)
+                .addPathPatterns("/api/materials", "/api/materials/category", "/api/materials/category/*");
+    }
+
 }
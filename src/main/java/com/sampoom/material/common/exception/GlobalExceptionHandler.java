@@ -1,7 +1,11 @@
 package com.sampoom.material.common.exception;
 
+import com.sampoom.material.common.filter.DatabaseConcurrencyLimiter;
 import com.sampoom.material.common.response.ApiResponse;
+import com.sampoom.material.common.response.ErrorStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,14 +22,42 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.errorWithCode(e.getErrorCode(), e.getResponseMessage()));
     }
 
+    // @Version 검사 실패 (커밋 시점에 다른 트랜잭션이 먼저 수정한 경우)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.info("Optimistic locking conflict: {}", e.getMessage());
+        ErrorStatus status = ErrorStatus.MATERIAL_VERSION_CONFLICT;
+        return ResponseEntity
+                .status(status.getHttpStatus())
+                .body(ApiResponse.errorWithCode(status.getCode(), status.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(RuntimeException e) {
+        // 가상 스레드 모드의 DB 동시 처리 한도 초과: 트랜잭션/DAO 예외에 감싸여 올라온다
+        if (isConcurrencyLimitExceeded(e)) {
+            log.warn("Request rejected by database concurrency limit: {}", e.getMessage());
+            ErrorStatus status = ErrorStatus.SERVICE_UNAVAILABLE;
+            return ResponseEntity
+                    .status(status.getHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.errorWithCode(status.getCode(), status.getMessage()));
+        }
         log.error(e.getMessage(), e);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.errorWithCode(20500, "런타임 오류가 발생했습니다."));
     }
 
+    private static boolean isConcurrencyLimitExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseConcurrencyLimiter.LimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(MethodArgumentNotValidException e) {
         String errorMessage = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
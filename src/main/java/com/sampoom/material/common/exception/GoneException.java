@@ -0,0 +1,18 @@
+package com.sampoom.material.common.exception;
+
+import com.sampoom.material.common.response.ErrorStatus;
+import org.springframework.http.HttpStatus;
+
+public class GoneException extends BaseException {
+  public GoneException() {
+    super(HttpStatus.GONE);
+  }
+
+  public GoneException(String message) {
+    super(HttpStatus.GONE, message);
+  }
+
+  public GoneException(ErrorStatus errorStatus) {
+    super(errorStatus.getHttpStatus(), errorStatus.getMessage(), errorStatus.getCode());
+  }
+}
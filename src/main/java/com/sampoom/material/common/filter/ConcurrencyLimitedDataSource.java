@@ -0,0 +1,33 @@
+package com.sampoom.material.common.filter;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션을 꺼내기 전에 DatabaseConcurrencyLimiter 의 허가를 받는 DataSource.
+ * 커넥션 풀(Hikari) 지표/헬스 체크는 unwrap 으로 원래 DataSource 를 찾으므로 그대로 동작한다.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final DatabaseConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, DatabaseConcurrencyLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        return super.getConnection(username, password);
+    }
+}
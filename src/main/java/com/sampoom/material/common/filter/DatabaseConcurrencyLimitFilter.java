@@ -0,0 +1,35 @@
+package com.sampoom.material.common.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 동시에 DB 를 쓰는 API 요청 수 제한.
+ * 가상 스레드 모드에서는 요청마다 스레드가 생기므로 스레드 풀이 더 이상 동시성을 제한하지 않는다.
+ * 이 필터는 요청 구간만 열고 닫으며, 허가는 요청이 실제로 커넥션을 꺼낼 때 받는다 ({@link DatabaseConcurrencyLimiter}).
+ * 허가를 제때 받지 못한 요청은 GlobalExceptionHandler 가 503 으로 응답한다.
+ */
+public class DatabaseConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final DatabaseConcurrencyLimiter limiter;
+
+    public DatabaseConcurrencyLimitFilter(DatabaseConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        limiter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.end();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sampoom.material.common.filter;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청이 동시에 DB 를 쓰는 수 제한.
+ * 허가는 요청이 처음 커넥션을 꺼낼 때 받고({@link ConcurrencyLimitedDataSource}) 요청이 끝날 때 반납한다
+ * ({@link DatabaseConcurrencyLimitFilter}). 따라서 ETag 304, 핫 응답 캐시, 상세 캐시로 끝나는 요청은
+ * 허가를 받지 않고, 한 요청이 커넥션을 여러 번 꺼내도 허가는 하나만 쓴다.
+ * 요청 밖(아웃박스 릴레이, 툼스톤 정리, 가져오기 작업, 리비전 동기화)의 커넥션은 제한하지 않으므로
+ * 한도는 커넥션 풀 크기에서 그 몫을 뺀 값으로 둔다.
+ */
+public class DatabaseConcurrencyLimiter {
+
+    private static final ThreadLocal<RequestPermit> CURRENT = new ThreadLocal<>();
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public DatabaseConcurrencyLimiter(int maxConcurrentRequests, Duration acquireTimeout) {
+        // 공정 모드: 먼저 온 요청이 먼저 진행되도록 해 꼬리 지연(p99)을 줄인다
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    // 현재 스레드의 요청 구간 시작 (허가는 아직 받지 않는다)
+    void begin() {
+        CURRENT.set(new RequestPermit());
+    }
+
+    // 현재 스레드의 요청 구간 종료: 받은 허가가 있으면 반납
+    void end() {
+        RequestPermit permit = CURRENT.get();
+        CURRENT.remove();
+        if (permit != null && permit.acquired) {
+            permits.release();
+        }
+    }
+
+    /**
+     * 커넥션을 꺼내기 전에 호출된다. 요청 구간 안에서 처음이면 허가를 받고,
+     * acquireTimeout 안에 받지 못하면 커넥션 풀 대기 대신 바로 실패한다.
+     */
+    void acquire() throws SQLTransientConnectionException {
+        RequestPermit permit = CURRENT.get();
+        if (permit == null || permit.acquired) {
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new LimitExceededException();
+        }
+        permit.acquired = true;
+    }
+
+    private static final class RequestPermit {
+        private boolean acquired;
+    }
+
+    /**
+     * 허가를 받지 못해 커넥션을 꺼내지 않은 경우. 트랜잭션/DAO 예외에 감싸여 올라오며 503 으로 응답한다.
+     */
+    public static class LimitExceededException extends SQLTransientConnectionException {
+
+        LimitExceededException() {
+            super("Database concurrency limit exceeded");
+        }
+    }
+}
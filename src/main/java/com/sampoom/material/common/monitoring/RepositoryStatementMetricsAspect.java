@@ -0,0 +1,59 @@
+package com.sampoom.material.common.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레포지토리 메서드별 SQL 문 수 (material.repository.statements).
+ * 실행 시간은 Spring Boot 의 spring.data.repository.invocations 타이머로 수집된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryStatementMetricsAspect {
+
+    private static final String BASE_PACKAGE = "com.sampoom.";
+
+    private final MeterRegistry meterRegistry;
+
+    // 레포지토리 프록시 클래스 -> 우리 레포지토리 인터페이스 이름
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    // save/findById 처럼 상위 인터페이스에 선언된 메서드도 포함되도록 Repository 하위 타입 전체를 대상으로 한다
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), this::repositoryName);
+        if (repository.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        long before = SqlStatementCounter.current();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DistributionSummary.builder("material.repository.statements")
+                    .description("레포지토리 메서드 호출당 실행된 SQL 문 수")
+                    .tag("repository", repository)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .record(SqlStatementCounter.current() - before);
+        }
+    }
+
+    private String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (type.getName().startsWith(BASE_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return "";
+    }
+}
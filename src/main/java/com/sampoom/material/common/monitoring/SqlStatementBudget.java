@@ -0,0 +1,48 @@
+package com.sampoom.material.common.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청/트랜잭션당 SQL 문 수 예산.
+ * 예산을 넘으면 경고 로그를 남기고 material.sql.budget.exceeded 카운터를 올린다 (N+1 탐지용).
+ */
+@Slf4j
+public class SqlStatementBudget {
+
+    public enum Scope { REQUEST, TRANSACTION }
+
+    private final MeterRegistry meterRegistry;
+    private final long perRequest;
+    private final long perTransaction;
+
+    public SqlStatementBudget(MeterRegistry meterRegistry, long perRequest, long perTransaction) {
+        this.meterRegistry = meterRegistry;
+        this.perRequest = perRequest;
+        this.perTransaction = perTransaction;
+    }
+
+    public void record(Scope scope, String name, long statements) {
+        String scopeTag = scope.name().toLowerCase();
+        DistributionSummary.builder("material.sql.statements")
+                .description("요청/트랜잭션당 실행된 SQL 문 수")
+                .tag("scope", scopeTag)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(statements);
+
+        long budget = (scope == Scope.REQUEST) ? perRequest : perTransaction;
+        if (statements > budget) {
+            log.warn("SQL statement budget exceeded. scope={}, name={}, statements={}, budget={}",
+                    scopeTag, name, statements, budget);
+            Counter.builder("material.sql.budget.exceeded")
+                    .description("SQL 문 수 예산을 넘은 요청/트랜잭션 수")
+                    .tag("scope", scopeTag)
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sampoom.material.common.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 수를 집계한다.
+ * 요청을 처리한 스레드 기준이므로 비동기로 처리되는 응답(내보내기 스트림)은 포함되지 않는다.
+ */
+@RequiredArgsConstructor
+public class SqlStatementBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = SqlStatementBudgetInterceptor.class.getName() + ".scope";
+
+    private final SqlStatementBudget budget;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, SqlStatementCounter.open());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+        if (!(scope instanceof SqlStatementCounter.Scope statementScope)) {
+            return;
+        }
+        // 태그 수가 늘어나지 않도록 실제 URI 대신 매핑 패턴 사용 (예: /api/materials/{materialId})
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String name = request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+        budget.record(SqlStatementBudget.Scope.REQUEST, name, statementScope.count());
+    }
+}
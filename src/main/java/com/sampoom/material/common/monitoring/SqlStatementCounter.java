@@ -0,0 +1,41 @@
+package com.sampoom.material.common.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문 수를 스레드별로 센다.
+ * 누적값만 들고 있으므로, 구간의 문장 수는 시작/끝 값의 차이로 구한다 ({@link #open()}).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    // 현재 스레드에서 지금까지 실행된 SQL 문 수
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    // 현재 스레드에서 지금부터 실행되는 SQL 문 수를 세는 구간
+    public static Scope open() {
+        return new Scope(current());
+    }
+
+    public static final class Scope {
+
+        private final long start;
+
+        private Scope(long start) {
+            this.start = start;
+        }
+
+        public long count() {
+            return current() - start;
+        }
+    }
+}
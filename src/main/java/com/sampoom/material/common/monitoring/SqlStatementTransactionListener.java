@@ -0,0 +1,50 @@
+package com.sampoom.material.common.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 트랜잭션 하나에서 실행된 SQL 문 수를 집계한다.
+ * REQUIRES_NEW 처럼 안쪽에서 새로 시작한 트랜잭션의 문장은 바깥 트랜잭션에도 함께 포함된다.
+ */
+@RequiredArgsConstructor
+public class SqlStatementTransactionListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Deque<SqlStatementCounter.Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final SqlStatementBudget budget;
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null) {
+            SCOPES.get().push(SqlStatementCounter.open());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        finish(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        finish(transaction);
+    }
+
+    private void finish(TransactionExecution transaction) {
+        Deque<SqlStatementCounter.Scope> scopes = SCOPES.get();
+        SqlStatementCounter.Scope scope = scopes.poll();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+        if (scope != null) {
+            // 이름은 @Transactional 메서드 (예: com.sampoom...MaterialService.createMaterial)
+            String name = transaction.getTransactionName();
+            budget.record(SqlStatementBudget.Scope.TRANSACTION, name.isEmpty() ? "UNNAMED" : name, scope.count());
+        }
+    }
+}
@@ -13,6 +13,11 @@ public enum ErrorStatus {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.",20001),
     MISSING_EMAIL_VERIFICATION_EXCEPTION(HttpStatus.BAD_REQUEST, "이메일 인증을 진행해주세요.",20002),
     ALREADY_REGISTER_EMAIL_EXCEPETION(HttpStatus.BAD_REQUEST, "이미 가입된 이메일 입니다.",20003),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.", 20004),
+    BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 처리할 수 있는 자재 수를 초과했습니다.", 20005),
+    EMPTY_BATCH_REQUEST(HttpStatus.BAD_REQUEST, "처리할 자재 ID 가 없습니다.", 20006),
+    EMPTY_IMPORT_FILE(HttpStatus.BAD_REQUEST, "업로드된 파일이 비어 있습니다.", 20007),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (csv, ndjson)", 20008),
 
 
     // 401 UNAUTHORIZED
@@ -25,14 +30,23 @@ public enum ErrorStatus {
     NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다.",20401),
     MATERIAL_NOT_FOUND(HttpStatus.NOT_FOUND, "자재를 찾을 수 없습니다.", 20402),
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다.", 20403),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "가져오기 작업을 찾을 수 없습니다.", 20404),
 
 
 
     // 409 CONFLICT
     CONFLICT(HttpStatus.CONFLICT, "충돌이 발생했습니다.",20901),
+    MATERIAL_VERSION_CONFLICT(HttpStatus.CONFLICT, "다른 사용자가 먼저 자재를 수정했습니다. 다시 조회한 후 수정해주세요.", 20902),
+
+    // 410 GONE
+    MATERIAL_DELETED(HttpStatus.GONE, "삭제된 자재입니다.", 21001),
+    MATERIAL_CHANGES_EXPIRED(HttpStatus.GONE, "보관 기간이 지난 변경 이력입니다. 전체 내보내기 후 다시 동기화해주세요.", 21002),
 
     // 500 INTERNAL_SERVER_ERROR
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.",20501);
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.",20501),
+
+    // 503 SERVICE_UNAVAILABLE
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.", 20503);
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -11,7 +11,8 @@ public enum SuccessStatus {
 
     // 공통 성공 메시지
     OK(HttpStatus.OK, "요청이 성공적으로 처리되었습니다."),
-    CREATED(HttpStatus.CREATED, "리소스가 성공적으로 생성되었습니다.")
+    CREATED(HttpStatus.CREATED, "리소스가 성공적으로 생성되었습니다."),
+    ACCEPTED(HttpStatus.ACCEPTED, "요청이 접수되어 처리 중입니다.")
     ;
 
 
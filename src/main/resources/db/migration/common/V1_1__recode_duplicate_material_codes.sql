@@ -0,0 +1,12 @@
+-- V2 의 uk_material_code 생성 전에 중복 자재 코드를 정리한다 (PostgreSQL / H2 공통).
+-- 코드 채번이 원자적이지 않던 시기에 같은 코드가 두 번 발급된 자재가 있으면 유니크 인덱스 생성이 실패해 기동할 수 없다.
+-- 같은 코드 중 가장 먼저 만들어진(material_id 가 가장 작은) 자재만 코드를 유지하고,
+-- 나머지는 '<코드>-DUP-<material_id>' 로 바꿔 찾을 수 있게 남긴다. 중복이 없으면 아무 행도 바꾸지 않는다.
+UPDATE material m
+SET material_code = m.material_code || '-DUP-' || CAST(m.material_id AS VARCHAR(20))
+WHERE EXISTS (
+    SELECT 1
+    FROM material o
+    WHERE o.material_code = m.material_code
+      AND o.material_id < m.material_id
+);
@@ -0,0 +1,66 @@
+-- 자재 서비스 기본 스키마 (PostgreSQL / H2 공통).
+-- Hibernate 자동 DDL 로 이미 테이블이 만들어진 DB 에서도 실행되도록(baseline-on-migrate) IF NOT EXISTS 로 작성한다.
+
+CREATE SEQUENCE IF NOT EXISTS material_category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS material_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS material_change_log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS material_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS material_category (
+    material_category_id BIGINT       NOT NULL,
+    name                 VARCHAR(255),
+    code                 VARCHAR(255),
+    CONSTRAINT pk_material_category PRIMARY KEY (material_category_id)
+);
+
+CREATE TABLE IF NOT EXISTS material (
+    material_id          BIGINT                NOT NULL,
+    material_name        VARCHAR(255),
+    material_code        VARCHAR(255),
+    material_category_id BIGINT,
+    version              BIGINT  DEFAULT 0     NOT NULL,
+    deleted              BOOLEAN DEFAULT FALSE NOT NULL,
+    deleted_at           TIMESTAMP(6),
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6),
+    CONSTRAINT pk_material PRIMARY KEY (material_id),
+    CONSTRAINT fk_material_material_category FOREIGN KEY (material_category_id)
+        REFERENCES material_category (material_category_id)
+);
+
+-- 자동 DDL 로 만들어진 기존 테이블에는 이후 추가된 컬럼이 없을 수 있다
+ALTER TABLE material ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE material ADD COLUMN IF NOT EXISTS deleted BOOLEAN DEFAULT FALSE NOT NULL;
+ALTER TABLE material ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+ALTER TABLE material ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+ALTER TABLE material ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS material_code_sequence (
+    material_category_id BIGINT NOT NULL,
+    next_value           BIGINT NOT NULL,
+    CONSTRAINT pk_material_code_sequence PRIMARY KEY (material_category_id)
+);
+
+CREATE TABLE IF NOT EXISTS material_revision (
+    id       BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    CONSTRAINT pk_material_revision PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS material_change_log (
+    material_change_log_id BIGINT       NOT NULL,
+    revision               BIGINT       NOT NULL,
+    material_id            BIGINT       NOT NULL,
+    change_type            VARCHAR(10)  NOT NULL,
+    changed_at             TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_material_change_log PRIMARY KEY (material_change_log_id)
+);
+
+CREATE TABLE IF NOT EXISTS material_outbox (
+    material_outbox_id BIGINT       NOT NULL,
+    revision           BIGINT       NOT NULL,
+    material_id        BIGINT       NOT NULL,
+    change_type        VARCHAR(10)  NOT NULL,
+    created_at         TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_material_outbox PRIMARY KEY (material_outbox_id)
+);
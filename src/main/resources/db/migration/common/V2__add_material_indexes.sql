@@ -0,0 +1,14 @@
+-- 자재 조회 인덱스 (PostgreSQL / H2 공통). 인덱스는 마이그레이션에서만 관리한다 (엔티티에는 @Index 를 두지 않는다).
+
+-- 카테고리별 목록/키셋 페이지(WHERE material_category_id = ? ORDER BY material_id)와
+-- 카테고리별 최신 코드 조회(ORDER BY material_id DESC LIMIT 1)를 인덱스 범위 스캔으로 처리
+CREATE INDEX IF NOT EXISTS idx_material_category_id ON material (material_category_id, material_id);
+
+-- 자재 코드는 툼스톤을 포함해 유일하다 (코드 단건 조회도 이 인덱스를 사용). 기존 중복 코드는 V1_1 에서 정리한다
+CREATE UNIQUE INDEX IF NOT EXISTS uk_material_code ON material (material_code);
+
+-- 보관 기간이 지난 툼스톤 정리 (WHERE deleted = true AND deleted_at < ?)
+CREATE INDEX IF NOT EXISTS idx_material_deleted_at ON material (deleted, deleted_at);
+
+-- 변경분 조회 키셋 (revision, material_id)
+CREATE INDEX IF NOT EXISTS idx_material_change_log_revision ON material_change_log (revision, material_id);
@@ -0,0 +1,8 @@
+-- 변경 이력 보관 (PostgreSQL / H2 공통).
+
+-- 보관 기간이 지나 지운 DELETE 이력 중 가장 큰 리비전.
+-- since 가 이보다 작은 소비자는 삭제를 놓쳤을 수 있으므로 변경분 조회가 410 으로 응답한다
+ALTER TABLE material_revision ADD COLUMN IF NOT EXISTS compacted_revision BIGINT DEFAULT 0 NOT NULL;
+
+-- 자재별 이력 조회: 같은 자재의 이전 이력 정리, 이력이 없는 자재 채우기
+CREATE INDEX IF NOT EXISTS idx_material_change_log_material_id ON material_change_log (material_id, revision);
@@ -0,0 +1,3 @@
+-- H2 에는 pg_trgm 이 없으므로 부분일치 검색은 테이블 스캔으로 처리된다.
+-- 이름순 키셋 검색 정렬 인덱스는 PostgreSQL 과 같은 이름/컬럼으로 만들어 같은 실행 경로를 검증한다.
+CREATE INDEX IF NOT EXISTS idx_material_name ON material (material_name, material_id);
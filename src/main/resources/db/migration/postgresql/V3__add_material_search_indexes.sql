@@ -0,0 +1,9 @@
+-- 자재명/코드 부분일치 검색 (LOWER(col) LIKE '%keyword%') 용 트라이그램 GIN 인덱스.
+-- 두 조건이 OR 로 묶이므로 각각 인덱스를 두어 BitmapOr 로 처리되도록 한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_material_name_trgm ON material USING gin (LOWER(material_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_material_code_trgm ON material USING gin (LOWER(material_code) gin_trgm_ops);
+
+-- 이름순 키셋 검색 정렬 (ORDER BY material_name, material_id)
+CREATE INDEX IF NOT EXISTS idx_material_name ON material (material_name, material_id);
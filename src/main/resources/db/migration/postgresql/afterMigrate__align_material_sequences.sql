@@ -0,0 +1,16 @@
+-- Flyway afterMigrate 콜백: 기동할 때마다(적용할 마이그레이션이 없어도) 마이그레이션 직후 실행된다.
+-- IDENTITY 컬럼으로 만들어졌던 기존 DB 나 ID 를 직접 지정해 넣은 행이 있어도 시퀀스가 이미 사용된 ID 를
+-- 다시 발급하지 않도록 최대 ID 이후로 맞춘다. 시퀀스가 이미 앞서 있으면 그대로 둔다.
+-- (pooled 옵티마이저는 nextval 값 기준으로 아래 50개를 쓰므로 최대 ID + 50 이상으로 둔다. 빈 DB 에서는 영향 없음)
+
+SELECT setval('material_seq',
+              GREATEST((SELECT COALESCE(MAX(material_id), 0) FROM material) + 50,
+                       (SELECT last_value FROM material_seq)),
+              true)
+WHERE EXISTS (SELECT 1 FROM material);
+
+SELECT setval('material_category_seq',
+              GREATEST((SELECT COALESCE(MAX(material_category_id), 0) FROM material_category) + 50,
+                       (SELECT last_value FROM material_category_seq)),
+              true)
+WHERE EXISTS (SELECT 1 FROM material_category);
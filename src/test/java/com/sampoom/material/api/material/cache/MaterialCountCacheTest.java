@@ -0,0 +1,74 @@
+package com.sampoom.material.api.material.cache;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 건수 캐시의 증분 갱신과 만료 후 재계산 확인.
+ */
+class MaterialCountCacheTest {
+
+    private final MaterialRepository materialRepository = mock(MaterialRepository.class);
+
+    @Test
+    void countIsLoadedOnceAndAdjustedByEvents() {
+        MaterialCountCache cache = new MaterialCountCache(materialRepository, Duration.ofHours(1));
+        when(materialRepository.count()).thenReturn(10L);
+
+        assertThat(cache.countAll()).isEqualTo(10L);
+        cache.onMaterialChanged(MaterialChangedEvent.created(material("강판")));
+
+        assertThat(cache.countAll()).isEqualTo(11L);
+        verify(materialRepository, times(1)).count();
+    }
+
+    @Test
+    void expiredCountIsReloaded() {
+        MaterialCountCache cache = new MaterialCountCache(materialRepository, Duration.ZERO);
+        when(materialRepository.count()).thenReturn(10L, 25L);
+
+        assertThat(cache.countAll()).isEqualTo(10L);
+        // 다른 인스턴스에서 들어간 행도 만료 후에는 반영된다
+        assertThat(cache.countAll()).isEqualTo(25L);
+        verify(materialRepository, times(2)).count();
+    }
+
+    @Test
+    void keywordCountFromCustomCounterIsCachedAndAdjusted() {
+        MaterialCountCache cache = new MaterialCountCache(materialRepository, Duration.ofHours(1));
+        AtomicInteger counted = new AtomicInteger();
+
+        assertThat(cache.countByKeyword("강판", () -> {
+            counted.incrementAndGet();
+            return 3L;
+        })).isEqualTo(3L);
+        cache.onMaterialChanged(MaterialChangedEvent.created(material("냉간압연강판")));
+        cache.onMaterialChanged(MaterialChangedEvent.created(material("볼트")));
+
+        assertThat(cache.countByKeyword("강판", () -> {
+            counted.incrementAndGet();
+            return 0L;
+        })).isEqualTo(4L);
+        assertThat(counted).hasValue(1);
+    }
+
+    private MaterialResponseDto material(String name) {
+        return MaterialResponseDto.builder()
+                .id(1L)
+                .name(name)
+                .materialCode("MTL-0001")
+                .materialCategoryId(1L)
+                .build();
+    }
+}
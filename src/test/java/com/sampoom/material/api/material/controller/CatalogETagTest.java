@@ -0,0 +1,112 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.cache.CatalogRevisionSync;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.search.MaterialSearchIndex;
+import com.sampoom.material.api.material.service.MaterialService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카탈로그 ETag: 304 재검증, 쓰기 후 무효화, 다른 인스턴스 변경 반영, gzip/원본 공용 약한 ETag 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private CatalogRevisionSync revisionSync;
+
+    @Autowired
+    private MaterialSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        String etag = currentETag();
+
+        assertThat(etag).startsWith("W/\"");
+        mockMvc.perform(get("/api/materials/category").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void gzipAndIdentityShareWeakETag() throws Exception {
+        String etag = currentETag();
+
+        String gzipETag = mockMvc.perform(get("/api/materials/category").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(gzipETag).isEqualTo(etag);
+        mockMvc.perform(get("/api/materials/category")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void localWriteChangesETagImmediately() throws Exception {
+        String before = currentETag();
+
+        materialService.createMaterial(MaterialRequestDto.builder()
+                .name("ETag-" + UUID.randomUUID())
+                .materialCategoryId(1L)
+                .build());
+
+        mockMvc.perform(get("/api/materials/category").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+        assertThat(currentETag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void changeCommittedByAnotherInstanceIsSyncedIntoIndexAndETag() throws Exception {
+        revisionSync.sync();
+        String before = currentETag();
+
+        // 다른 인스턴스가 자재를 추가하고 리비전/변경 이력을 커밋한 상황
+        long id = 900_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+        String name = "원격-" + UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO material (material_id, material_name, material_code, material_category_id) "
+                + "VALUES (?, ?, ?, ?)", id, name, "RMT-" + id, 1L);
+        jdbcTemplate.update("UPDATE material_revision SET revision = revision + 1 WHERE id = 1");
+        Long revision = jdbcTemplate.queryForObject("SELECT revision FROM material_revision WHERE id = 1", Long.class);
+        jdbcTemplate.update("INSERT INTO material_change_log (material_change_log_id, revision, material_id, change_type, changed_at) "
+                + "VALUES (?, ?, ?, 'UPSERT', ?)", id, revision, id, LocalDateTime.now());
+
+        revisionSync.sync();
+
+        assertThat(searchIndex.search(name.toLowerCase())).containsExactly(id);
+        assertThat(currentETag()).isNotEqualTo(before).contains(Long.toString(revision));
+        mockMvc.perform(get("/api/materials/category").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+    }
+
+    private String currentETag() throws Exception {
+        return mockMvc.perform(get("/api/materials/category"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
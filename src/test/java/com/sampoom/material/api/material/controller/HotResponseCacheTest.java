@@ -0,0 +1,113 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.cache.CatalogVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 핫 응답 캐시: 미스/적중 응답 본문과 헤더, Accept-Encoding q 값 처리 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HotResponseCacheTest {
+
+    private static final String PATH = "/api/materials/category";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Test
+    void missAndHitReturnSameBodyWithVary() throws Exception {
+        catalogVersion.increment();
+
+        MockHttpServletResponse miss = fetch("identity");
+        MockHttpServletResponse hit = fetch("identity");
+
+        assertThat(miss.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(hit.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(miss.getContentAsByteArray()).isNotEmpty().isEqualTo(hit.getContentAsByteArray());
+        assertThat(miss.getContentType()).isEqualTo(hit.getContentType());
+    }
+
+    @Test
+    void gzipIsUsedOnMissAndHit() throws Exception {
+        catalogVersion.increment();
+        byte[] plain = fetch(null).getContentAsByteArray();
+        catalogVersion.increment();
+
+        MockHttpServletResponse miss = fetch("gzip");
+        MockHttpServletResponse hit = fetch("gzip");
+
+        assertThat(miss.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(hit.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(miss.getContentAsByteArray())).isEqualTo(plain);
+        assertThat(gunzip(hit.getContentAsByteArray())).isEqualTo(plain);
+    }
+
+    @Test
+    void gzipWithZeroQualityIsNotCompressed() throws Exception {
+        catalogVersion.increment();
+
+        MockHttpServletResponse miss = fetch("gzip;q=0, identity");
+        MockHttpServletResponse hit = fetch("gzip;q=0, identity");
+
+        assertThat(miss.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(hit.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(hit.getContentAsString()).startsWith("{");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+            "NULL                  | false",
+            "gzip                  | true",
+            "GZIP                  | true",
+            "x-gzip                | true",
+            "deflate, gzip;q=0.5   | true",
+            "gzip;q=0              | false",
+            "gzip; q=0.000         | false",
+            "gzip;q=abc            | false",
+            "identity              | false",
+            "*                     | true",
+            "*;q=0                 | false",
+            "gzip;q=0, *           | false",
+            "br, *;q=0.1           | true"
+    })
+    void acceptsGzipHonorsQualityValues(String acceptEncoding, boolean expected) {
+        assertThat(HotResponseCacheInterceptor.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+
+    private MockHttpServletResponse fetch(String acceptEncoding) throws Exception {
+        var request = get(PATH);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.service.MaterialService;
+import com.sampoom.material.api.material.service.MaterialTombstonePurger;
+import com.sampoom.material.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자재 삭제: 삭제된 자재는 410, 없는 자재는 404, 보관 기간이 지난 툼스톤은 정리 후 404.
+ * 다른 요청이 먼저 삭제한 자재에는 삭제 이벤트(DELETE 이력)를 다시 남기지 않는지 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MaterialDeleteTest {
+
+    private static final long UNKNOWN_ID = 8_000_000_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialTombstonePurger tombstonePurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletedMaterialIsGoneAndUnknownMaterialIsNotFound() throws Exception {
+        Long id = create().getId();
+
+        mockMvc.perform(delete("/api/materials/" + id))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/materials/" + id))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_DELETED.getCode()));
+        mockMvc.perform(delete("/api/materials/" + id))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_DELETED.getCode()));
+
+        mockMvc.perform(get("/api/materials/" + UNKNOWN_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_NOT_FOUND.getCode()));
+        mockMvc.perform(delete("/api/materials/" + UNKNOWN_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void purgedTombstoneIsNotFound() throws Exception {
+        Long id = create().getId();
+        materialService.deleteMaterial(id);
+        // 보관 기간이 지난 툼스톤으로 만든다
+        jdbcTemplate.update("UPDATE material SET deleted_at = ? WHERE material_id = ?",
+                Timestamp.valueOf("2000-01-01 00:00:00"), id);
+
+        tombstonePurger.purge();
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM material WHERE material_id = ?", Integer.class, id);
+        assertThat(rows).isZero();
+        mockMvc.perform(get("/api/materials/" + id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void bulkDeleteSkipsMaterialDeletedByAnotherRequest() {
+        Long kept = create().getId();
+        Long raced = create().getId();
+        // 스냅샷은 상세 캐시에 남아 있는데, 다른 인스턴스가 먼저 삭제한 상황
+        materialService.getMaterialById(raced);
+        jdbcTemplate.update("UPDATE material SET deleted = true, deleted_at = CURRENT_TIMESTAMP WHERE material_id = ?", raced);
+
+        List<Long> deleted = materialService.deleteMaterials(List.of(kept, raced));
+
+        assertThat(deleted).containsExactly(kept);
+        assertThat(deleteLogCount(kept)).isEqualTo(1);
+        assertThat(deleteLogCount(raced)).isZero();
+    }
+
+    private MaterialResponseDto create() {
+        return materialService.createMaterial(MaterialRequestDto.builder()
+                .name("삭제-" + UUID.randomUUID())
+                .materialCategoryId(1L)
+                .build());
+    }
+
+    private int deleteLogCount(Long materialId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM material_change_log WHERE material_id = ? AND change_type = 'DELETE'",
+                Integer.class, materialId);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,109 @@
+package com.sampoom.material.api.material.controller;
+
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.service.MaterialService;
+import com.sampoom.material.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자재 부분 수정: 오래된 version 은 409, 요청에 없는(null) 필드는 컬럼을 바꾸지 않는지 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MaterialPatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void staleVersionIsConflict() throws Exception {
+        MaterialResponseDto material = create();
+        long version = material.getVersion();
+
+        mockMvc.perform(patch(path(material)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"수정-" + UUID.randomUUID() + "\",\"version\":" + version + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(version + 1));
+
+        // 같은 version 으로 다시 수정하면 그 사이의 수정을 덮어쓰게 되므로 거절
+        mockMvc.perform(patch(path(material)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"덮어쓰기\",\"version\":" + version + "}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.MATERIAL_VERSION_CONFLICT.getCode()));
+        assertThat(row(material).get("material_name")).isNotEqualTo("덮어쓰기");
+    }
+
+    @Test
+    void nullFieldsLeaveColumnsUnchanged() throws Exception {
+        MaterialResponseDto material = create();
+        String name = "이름만-" + UUID.randomUUID();
+
+        mockMvc.perform(patch(path(material)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isOk());
+        Map<String, Object> renamed = row(material);
+        assertThat(renamed.get("material_name")).isEqualTo(name);
+        assertThat(renamed.get("material_code")).isEqualTo(material.getMaterialCode());
+        assertThat(((Number) renamed.get("material_category_id")).longValue()).isEqualTo(1L);
+
+        mockMvc.perform(patch(path(material)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"materialCategoryId\":2}"))
+                .andExpect(status().isOk());
+        Map<String, Object> moved = row(material);
+        assertThat(moved.get("material_name")).isEqualTo(name);
+        assertThat((String) moved.get("material_code")).startsWith("PLS-");
+        assertThat(((Number) moved.get("material_category_id")).longValue()).isEqualTo(2L);
+    }
+
+    @Test
+    void emptyPatchDoesNotUpdate() throws Exception {
+        MaterialResponseDto material = create();
+
+        mockMvc.perform(patch(path(material)).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isOk());
+
+        Map<String, Object> row = row(material);
+        assertThat(row.get("material_name")).isEqualTo(material.getName());
+        assertThat(((Number) row.get("version")).longValue()).isEqualTo(material.getVersion());
+    }
+
+    private MaterialResponseDto create() {
+        return materialService.createMaterial(MaterialRequestDto.builder()
+                .name("부분수정-" + UUID.randomUUID())
+                .materialCategoryId(1L)
+                .build());
+    }
+
+    private static String path(MaterialResponseDto material) {
+        return "/api/materials/" + material.getId();
+    }
+
+    private Map<String, Object> row(MaterialResponseDto material) {
+        return jdbcTemplate.queryForMap(
+                "SELECT material_name, material_code, material_category_id, version FROM material WHERE material_id = ?",
+                material.getId());
+    }
+}
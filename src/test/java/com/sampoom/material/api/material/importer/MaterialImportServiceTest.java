@@ -0,0 +1,135 @@
+package com.sampoom.material.api.material.importer;
+
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.dto.MaterialImportErrorDto;
+import com.sampoom.material.api.material.dto.MaterialImportJobDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.service.MaterialService;
+import com.sampoom.material.common.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CSV 가져오기: 배치 실패 시 행 단위 재시도, 읽기 실패 시 진행 중 배치 대기, 작업 보관 기간 확인.
+ */
+class MaterialImportServiceTest {
+
+    private static final String HEADER = "id,category_id,category,code,name\n";
+
+    private final MaterialService materialService = mock(MaterialService.class);
+    private final MaterialCategoryRegistry categoryRegistry = mock(MaterialCategoryRegistry.class);
+
+    private MaterialImportService importService;
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void failingRowIsRecordedWithLineAndRestOfBatchIsImported() throws Exception {
+        importService = new MaterialImportService(materialService, categoryRegistry, 3, 1, 1, 100, Duration.ofHours(1));
+        when(categoryRegistry.find(anyLong())).thenReturn(Optional.of(MaterialCategoryResponseDto.builder().id(1L).build()));
+        // "불량" 이라는 이름이 들어간 배치는 저장에 실패한다
+        when(materialService.createMaterials(anyList())).thenAnswer(invocation -> {
+            List<MaterialRequestDto> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(request -> request.getName().equals("불량"))) {
+                throw new IllegalStateException("boom");
+            }
+            return List.of();
+        });
+
+        MaterialImportJobDto started = importService.start(csv(HEADER
+                + ",1,,,강판\n"     // line 2
+                + ",1,,,불량\n"     // line 3
+                + ",1,,,강관\n"     // line 4
+                + ",1,,,볼트\n"));  // line 5
+
+        MaterialImportJobDto job = awaitFinished(started.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getReadRows()).isEqualTo(4);
+        assertThat(job.getImportedRows()).isEqualTo(3);
+        assertThat(job.getFailedRows()).isEqualTo(1);
+        assertThat(job.getErrors()).extracting(MaterialImportErrorDto::getLine).containsExactly(3L);
+    }
+
+    @Test
+    void readerFailureWaitsForSubmittedBatchesBeforeFailing() throws Exception {
+        importService = new MaterialImportService(materialService, categoryRegistry, 1, 1, 1, 100, Duration.ofHours(1));
+        when(categoryRegistry.find(1L)).thenReturn(Optional.of(MaterialCategoryResponseDto.builder().id(1L).build()));
+        // 두 번째 행을 읽다가 읽기 스레드가 실패한다
+        when(categoryRegistry.find(2L)).thenThrow(new IllegalStateException("registry unavailable"));
+        CountDownLatch release = new CountDownLatch(1);
+        when(materialService.createMaterials(anyList())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        String jobId = importService.start(csv(HEADER + ",1,,,강판
+" + ",2,,,강관
+")).getJobId();
+
+        // 첫 배치가 저장 중이면 아직 실패로 기록하지 않는다
+        Thread.sleep(200);
+        assertThat(importService.getJob(jobId).getStatus()).isEqualTo("RUNNING");
+
+        release.countDown();
+        MaterialImportJobDto job = awaitFinished(jobId);
+        assertThat(job.getStatus()).isEqualTo("FAILED");
+        assertThat(job.getImportedRows()).isEqualTo(1);
+    }
+
+    @Test
+    void runningJobIsNotEvictedAndFinishedJobExpires() throws Exception {
+        importService = new MaterialImportService(materialService, categoryRegistry, 10, 1, 1, 100, Duration.ofMillis(50));
+        when(categoryRegistry.find(anyLong())).thenReturn(Optional.of(MaterialCategoryResponseDto.builder().id(1L).build()));
+        CountDownLatch release = new CountDownLatch(1);
+        when(materialService.createMaterials(anyList())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        String jobId = importService.start(csv(HEADER + ",1,,,강판\n")).getJobId();
+
+        // 보관 기간보다 오래 실행 중이어도 조회된다
+        Thread.sleep(200);
+        assertThat(importService.getJob(jobId).getStatus()).isEqualTo("RUNNING");
+
+        release.countDown();
+        assertThat(awaitFinished(jobId).getStatus()).isEqualTo("COMPLETED");
+
+        Thread.sleep(200);
+        assertThatThrownBy(() -> importService.getJob(jobId)).isInstanceOf(NotFoundException.class);
+    }
+
+    private MaterialImportJobDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        MaterialImportJobDto job = importService.getJob(jobId);
+        while ("RUNNING".equals(job.getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = importService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "materials.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
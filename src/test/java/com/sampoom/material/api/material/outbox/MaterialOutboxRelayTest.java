@@ -0,0 +1,149 @@
+package com.sampoom.material.api.material.outbox;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.entity.MaterialOutboxEvent;
+import com.sampoom.material.api.material.repository.MaterialOutboxEventRepository;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.api.material.service.MaterialService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스: 변경과 같은 트랜잭션에 기록되고, 배치 단위로 자재별로 합쳐 발행되며, 발행에 성공한 뒤에만 지워지는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaterialOutboxRelayTest {
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialOutboxEventRepository outboxRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private InMemoryMaterialEventPublisher publisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void drainOutbox() {
+        // 다른 테스트가 남긴 행을 비운다 (테스트 프로필에서는 릴레이 주기가 길어 직접 호출한다)
+        MaterialOutboxRelay relay = relay(publisher, 500);
+        while (relay.drainOnce() > 0) {
+            // 다음 배치
+        }
+        publisher.clear();
+    }
+
+    @Test
+    void createUpdateAndDeleteArePublishedInBatchesAndOutboxIsEmptied() {
+        Long updated = materialService.createMaterial(request("발행-" + UUID.randomUUID())).getId();
+        String name = "발행-수정-" + UUID.randomUUID();
+        materialService.updateMaterial(updated, request(name));
+        Long deleted = materialService.createMaterial(request("발행-삭제-" + UUID.randomUUID())).getId();
+        materialService.deleteMaterial(deleted);
+        assertThat(outboxRepository.count()).isEqualTo(4);
+
+        MaterialOutboxRelay relay = relay(publisher, 2);
+        assertThat(relay.drainOnce()).isEqualTo(2);
+        assertThat(relay.drainOnce()).isEqualTo(2);
+        assertThat(relay.drainOnce()).isZero();
+
+        // 배치마다 같은 자재의 변경은 마지막 하나로 합쳐진다
+        List<MaterialChangeDto> published = publisher.getPublished();
+        assertThat(published).extracting(MaterialChangeDto::getMaterialId).containsExactly(updated, deleted);
+        assertThat(published.get(0).getType()).isEqualTo(MaterialChangeType.UPSERT);
+        assertThat(published.get(0).getMaterial().getName()).isEqualTo(name);
+        assertThat(published.get(1).getType()).isEqualTo(MaterialChangeType.DELETE);
+        assertThat(published.get(1).getMaterial()).isNull();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void rolledBackMutationWritesNoOutboxRow() {
+        transactionTemplate.executeWithoutResult(status -> {
+            materialService.createMaterial(request("롤백-" + UUID.randomUUID()));
+            status.setRollbackOnly();
+        });
+        assertThat(outboxRepository.count()).isZero();
+
+        Long id = transactionTemplate.execute(status ->
+                materialService.createMaterial(request("커밋-" + UUID.randomUUID())).getId());
+        assertThat(outboxRepository.findAll()).extracting(MaterialOutboxEvent::getMaterialId).containsExactly(id);
+    }
+
+    @Test
+    void failedPublishKeepsRowsForNextRelay() {
+        Long id = materialService.createMaterial(request("재시도-" + UUID.randomUUID())).getId();
+
+        MaterialOutboxRelay failing = relay(changes -> {
+            throw new IllegalStateException("broker unavailable");
+        }, 500);
+        assertThatThrownBy(failing::drainOnce).isInstanceOf(IllegalStateException.class);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        assertThat(relay(publisher, 500).drainOnce()).isEqualTo(1);
+        assertThat(publisher.getPublished()).extracting(MaterialChangeDto::getMaterialId).containsExactly(id);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void relayWithoutPublisherLeavesRows() {
+        materialService.createMaterial(request("발행기없음-" + UUID.randomUUID()));
+
+        assertThat(relay(null, 500).drainOnce()).isZero();
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void coalesceKeepsLatestChangePerMaterialInRevisionOrder() {
+        List<MaterialOutboxEvent> batch = List.of(
+                event(1L, 10, 100L, MaterialChangeType.UPSERT),
+                event(2L, 11, 200L, MaterialChangeType.UPSERT),
+                event(3L, 12, 100L, MaterialChangeType.UPSERT),
+                event(4L, 13, 300L, MaterialChangeType.UPSERT),
+                event(5L, 14, 200L, MaterialChangeType.DELETE));
+
+        List<MaterialOutboxEvent> latest = List.copyOf(MaterialOutboxRelay.coalesce(batch));
+
+        assertThat(latest).extracting(MaterialOutboxEvent::getMaterialId).containsExactly(100L, 300L, 200L);
+        assertThat(latest).extracting(MaterialOutboxEvent::getRevision).containsExactly(12L, 13L, 14L);
+        assertThat(latest.get(2).getChangeType()).isEqualTo(MaterialChangeType.DELETE);
+    }
+
+    private MaterialOutboxRelay relay(MaterialEventPublisher eventPublisher, int batchSize) {
+        return new MaterialOutboxRelay(outboxRepository, materialRepository, eventPublisher,
+                transactionTemplate, new SimpleMeterRegistry(), batchSize);
+    }
+
+    private static MaterialRequestDto request(String name) {
+        return MaterialRequestDto.builder().name(name).materialCategoryId(1L).build();
+    }
+
+    private MaterialOutboxEvent event(Long id, long revision, Long materialId, MaterialChangeType type) {
+        return MaterialOutboxEvent.builder()
+                .id(id)
+                .revision(revision)
+                .materialId(materialId)
+                .changeType(type)
+                .build();
+    }
+}
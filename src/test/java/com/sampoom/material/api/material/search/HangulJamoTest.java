@@ -0,0 +1,75 @@
+package com.sampoom.material.api.material.search;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 음절 분해 (초성 키 / 자모 키 / 초성 검색어 판별).
+ */
+class HangulJamoTest {
+
+    @ParameterizedTest(name = "toJamo({0}) = {1}")
+    @CsvSource(delimiter = '|', value = {
+            "냉간압연강판 | ㄴㅐㅇㄱㅏㄴㅇㅏㅂㅇㅕㄴㄱㅏㅇㅍㅏㄴ",
+            // 겹받침
+            "닭           | ㄷㅏㄹㄱ",
+            "값           | ㄱㅏㅂㅅ",
+            "앉           | ㅇㅏㄴㅈ",
+            "많           | ㅁㅏㄴㅎ",
+            "읽기         | ㅇㅣㄹㄱㄱㅣ",
+            // 겹모음
+            "과           | ㄱㅗㅏ",
+            "뭬           | ㅁㅜㅔ",
+            "의           | ㅇㅡㅣ",
+            // 호환 자모 겹자모
+            "ㄳ           | ㄱㅅ",
+            "ㄺ           | ㄹㄱ",
+            "ㅘ           | ㅗㅏ",
+            // 입력 중인 글자
+            "ㄴ가         | ㄴㄱㅏ",
+            // 한글 이외 문자는 소문자로, 공백은 제거
+            "Steel 강판   | steelㄱㅏㅇㅍㅏㄴ",
+            "M8 볼트      | m8ㅂㅗㄹㅌㅡ",
+            "ABC          | abc"
+    })
+    void toJamo(String text, String expected) {
+        assertThat(HangulJamo.toJamo(text)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "toChoseong({0}) = {1}")
+    @CsvSource(delimiter = '|', value = {
+            "냉간압연강판 | ㄴㄱㅇㅇㄱㅍ",
+            "닭           | ㄷ",
+            "읽기         | ㅇㄱ",
+            "Steel 강판   | steelㄱㅍ",
+            "강판2        | ㄱㅍ2",
+            "ㄴㄱ ㅇ      | ㄴㄱㅇ"
+    })
+    void toChoseong(String text, String expected) {
+        assertThat(HangulJamo.toChoseong(text)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "isChoseongQuery({0}) = {1}")
+    @CsvSource(delimiter = '|', value = {
+            "ㄴㄱ         | true",
+            "'ㄴㄱ ㅇ'    | true",
+            "ㄳ           | true",
+            "ㄴ가         | false",
+            "ㅘ           | false",
+            "강판         | false",
+            "ab           | false",
+            "'  '         | false"
+    })
+    void isChoseongQuery(String query, boolean expected) {
+        assertThat(HangulJamo.isChoseongQuery(query)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {"NULL"})
+    void nullTextIsEmptyKey(String text) {
+        assertThat(HangulJamo.toJamo(text)).isEmpty();
+        assertThat(HangulJamo.toChoseong(text)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sampoom.material.api.material.search;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 초성/자모 검색 결과와 일치 품질 순 정렬 확인.
+ */
+class MaterialHangulIndexTest {
+
+    private final MaterialRepository materialRepository = mock(MaterialRepository.class);
+
+    private MaterialHangulIndex hangulIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(materialRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new MaterialSearchDocument(1L, "강판", "MTL-0001"),
+                new MaterialSearchDocument(2L, "강판 절단기", "MTL-0002"),
+                new MaterialSearchDocument(3L, "냉간압연강판", "MTL-0003"),
+                new MaterialSearchDocument(4L, "고강판", "MTL-0004"),
+                new MaterialSearchDocument(5L, "강판재", "MTL-0005"),
+                new MaterialSearchDocument(6L, "강판", "MTL-0006"),
+                new MaterialSearchDocument(7L, "Steel 강판", "MTL-0007"),
+                new MaterialSearchDocument(8L, "닭갈비 양념", "CHM-0008")));
+        hangulIndex = new MaterialHangulIndex(materialRepository);
+        hangulIndex.load();
+    }
+
+    // 완전일치(ID 순) → 접두일치(짧은 이름 우선) → 부분일치(앞쪽 일치 우선)
+    @ParameterizedTest(name = "search({0}) = [{1}]")
+    @CsvSource(delimiter = '|', value = {
+            "강판         | 1,6,5,2,4,7,3",
+            "ㄱㅍ         | 1,6,5,2,4,3,7",
+            "ㄱ ㅍ        | 1,6,5,2,4,3,7",
+            "냉가         | 3",
+            "ㄴㄱㅇㅇ     | 3",
+            "steel 강     | 7",
+            "STEEL        | 7",
+            "닭           | 8",
+            "달           | 8",
+            "ㄷㄱㅂ       | 8",
+            "ㄹㄱ         | ''",
+            "없는자재     | ''"
+    })
+    void ranksByMatchQuality(String keyword, String expectedIds) {
+        List<Long> expected = expectedIds.isEmpty()
+                ? List.of()
+                : Arrays.stream(expectedIds.split(",")).map(Long::valueOf).toList();
+
+        assertThat(hangulIndex.search(keyword)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void blankKeywordMatchesNothing() {
+        assertThat(hangulIndex.search("   ")).isEmpty();
+    }
+
+    @Test
+    void changeEventsUpdateBothKeys() {
+        hangulIndex.onMaterialChanged(MaterialChangedEvent.updated(material(8L, "닭갈비 양념"), material(8L, "볼트")));
+        hangulIndex.onMaterialChanged(MaterialChangedEvent.deleted(material(1L, "강판")));
+
+        assertThat(hangulIndex.search("닭")).isEmpty();
+        assertThat(hangulIndex.search("ㄷㄱㅂ")).isEmpty();
+        assertThat(hangulIndex.search("ㅂㅌ")).containsExactly(8L);
+        assertThat(hangulIndex.search("강판")).startsWith(6L, 5L);
+    }
+
+    @Test
+    void deleteDuringRebuildIsNotOverwrittenByChunkReadEarlier() {
+        when(materialRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            hangulIndex.onMaterialChanged(MaterialChangedEvent.deleted(material(8L, "닭갈비 양념")));
+            return List.of(new MaterialSearchDocument(8L, "닭갈비 양념", "CHM-0008"));
+        });
+
+        hangulIndex.rebuild();
+
+        assertThat(hangulIndex.search("닭")).isEmpty();
+        assertThat(hangulIndex.search("ㄷㄱㅂ")).isEmpty();
+    }
+
+    private MaterialResponseDto material(Long id, String name) {
+        return MaterialResponseDto.builder().id(id).name(name).materialCategoryId(1L).build();
+    }
+}
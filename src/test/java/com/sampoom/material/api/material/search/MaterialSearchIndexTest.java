@@ -0,0 +1,130 @@
+package com.sampoom.material.api.material.search;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.event.MaterialChangedEvent;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자재명/코드 색인: 대소문자 무시, 이름-코드 경계, 변경 이벤트 반영 확인.
+ */
+class MaterialSearchIndexTest {
+
+    private final MaterialRepository materialRepository = mock(MaterialRepository.class);
+
+    private MaterialSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(materialRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new MaterialSearchDocument(1L, "Steel 강판", "MTL-0001"),
+                new MaterialSearchDocument(2L, "구리선", "ELC-0002"),
+                new MaterialSearchDocument(3L, "강", "PLS-0003")));
+        searchIndex = new MaterialSearchIndex(materialRepository);
+    }
+
+    @Test
+    void notReadyUntilLoaded() {
+        assertThat(searchIndex.isReady()).isFalse();
+
+        searchIndex.load();
+
+        assertThat(searchIndex.isReady()).isTrue();
+    }
+
+    @Test
+    void matchesNameOrCodeIgnoringCase() {
+        searchIndex.load();
+
+        assertThat(searchIndex.search("STEEL")).containsExactly(1L);
+        assertThat(searchIndex.search("mtl")).containsExactly(1L);
+        assertThat(searchIndex.search("elc-0002")).containsExactly(2L);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesNameAndCode() {
+        searchIndex.load();
+
+        assertThat(searchIndex.search("강")).containsExactly(1L, 3L);
+        assertThat(searchIndex.search("3")).containsExactly(3L);
+    }
+
+    @Test
+    void queryDoesNotSpanNameAndCodeBoundary() {
+        searchIndex.load();
+
+        // 이름 끝("강") + 코드 시작("PLS") 은 이어진 문자열이 아니다
+        assertThat(searchIndex.search("강p")).isEmpty();
+        assertThat(searchIndex.search("선e")).isEmpty();
+    }
+
+    @Test
+    void updateEventReplacesIndexedText() {
+        searchIndex.load();
+
+        searchIndex.onMaterialChanged(MaterialChangedEvent.updated(
+                material(2L, "구리선", "ELC-0002"), material(2L, "알루미늄선", "ELC-0002")));
+
+        assertThat(searchIndex.search("구리")).isEmpty();
+        assertThat(searchIndex.search("알루미늄")).containsExactly(2L);
+        assertThat(searchIndex.search("선")).containsExactly(2L);
+    }
+
+    @Test
+    void deleteEventRemovesDocument() {
+        searchIndex.load();
+
+        searchIndex.onMaterialChanged(MaterialChangedEvent.deleted(material(1L, "Steel 강판", "MTL-0001")));
+
+        assertThat(searchIndex.search("강")).containsExactly(3L);
+        assertThat(searchIndex.search("mtl")).isEmpty();
+    }
+
+    @Test
+    void createEventAddsDocument() {
+        searchIndex.load();
+
+        searchIndex.onMaterialChanged(MaterialChangedEvent.created(material(4L, "고강도 강판", "MTL-0004")));
+
+        assertThat(searchIndex.search("강판")).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void changesDuringRebuildAreNotOverwrittenByChunkReadEarlier() {
+        List<MaterialSearchDocument> staleChunk = List.of(
+                new MaterialSearchDocument(1L, "Steel 강판", "MTL-0001"),
+                new MaterialSearchDocument(2L, "구리선", "ELC-0002"));
+        // 청크를 읽은 뒤, 색인에 반영하기 전에 삭제/수정 이벤트가 도착한 경우
+        when(materialRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            searchIndex.onMaterialChanged(MaterialChangedEvent.deleted(material(1L, "Steel 강판", "MTL-0001")));
+            searchIndex.onMaterialChanged(MaterialChangedEvent.updated(
+                    material(2L, "구리선", "ELC-0002"), material(2L, "알루미늄선", "ELC-0002")));
+            return staleChunk;
+        });
+
+        searchIndex.rebuild();
+
+        assertThat(searchIndex.search("steel")).isEmpty();
+        assertThat(searchIndex.search("구리")).isEmpty();
+        assertThat(searchIndex.search("알루미늄")).containsExactly(2L);
+    }
+
+    private MaterialResponseDto material(Long id, String name, String code) {
+        return MaterialResponseDto.builder()
+                .id(id)
+                .name(name)
+                .materialCode(code)
+                .materialCategoryId(1L)
+                .build();
+    }
+}
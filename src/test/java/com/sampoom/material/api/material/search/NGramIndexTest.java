@@ -0,0 +1,80 @@
+package com.sampoom.material.api.material.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2-gram 역색인의 검색/갱신 동작 확인.
+ */
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex(2);
+        index.put(3L, "냉간압연강판");
+        index.put(1L, "열간압연강판");
+        index.put(2L, "알루미늄 합금");
+    }
+
+    @Test
+    void resultsAreInAscendingIdOrder() {
+        assertThat(index.search("강판")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void queryShorterThanGramScansDocuments() {
+        assertThat(index.search("판")).containsExactly(1L, 3L);
+        assertThat(index.search("금")).containsExactly(2L);
+        assertThat(index.search("없")).isEmpty();
+    }
+
+    @Test
+    void allGramsMustMatchInOrder() {
+        // "압연" 과 "강판" gram 은 모두 있지만 이어진 문자열 "압연판" 은 없다
+        assertThat(index.search("압연판")).isEmpty();
+        assertThat(index.search("간압연강")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void unknownGramReturnsEmpty() {
+        assertThat(index.search("구리")).isEmpty();
+    }
+
+    @Test
+    void putReplacesPreviousPostings() {
+        index.put(3L, "구리선");
+
+        assertThat(index.search("강판")).containsExactly(1L);
+        assertThat(index.search("구리")).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removeDropsPostingsAndDocument() {
+        index.remove(1L);
+
+        assertThat(index.search("강판")).containsExactly(3L);
+        assertThat(index.search("열")).isEmpty();
+        assertThat(index.get(1L)).isNull();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removingUnknownIdIsNoop() {
+        index.remove(99L);
+
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyTextIsNotIndexed() {
+        index.put(4L, "");
+
+        assertThat(index.get(4L)).isNull();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
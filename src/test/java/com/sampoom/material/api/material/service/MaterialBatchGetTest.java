@@ -0,0 +1,93 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.MaterialBatchItemDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static com.sampoom.material.common.monitoring.SqlStatementAssertions.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다건 조회: 요청 순서 유지, 중복/null ID 그대로 응답, 없음과 삭제 구분, 캐시에 있으면 DB 조회 없음.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaterialBatchGetTest {
+
+    private static final long UNKNOWN_ID = 8_500_000_000L;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialDetailCache detailCache;
+
+    @BeforeEach
+    void setUp() {
+        detailCache.invalidateAll();
+    }
+
+    @Test
+    void keepsRequestOrderAndMarksMissingAndDeleted() {
+        Long first = create();
+        Long second = create();
+        Long deleted = create();
+        materialService.deleteMaterial(deleted);
+
+        List<Long> ids = Arrays.asList(second, null, first, second, UNKNOWN_ID, deleted);
+        List<MaterialBatchItemDto> items = materialService.getMaterialsByIds(ids);
+
+        assertThat(items).extracting(MaterialBatchItemDto::getId).containsExactlyElementsOf(ids);
+        assertThat(items).extracting(MaterialBatchItemDto::isFound)
+                .containsExactly(true, false, true, true, false, false);
+        assertThat(items).extracting(MaterialBatchItemDto::isDeleted)
+                .containsExactly(false, false, false, false, false, true);
+        assertThat(items.get(0).getMaterial().getId()).isEqualTo(second);
+        assertThat(items.get(2).getMaterial().getId()).isEqualTo(first);
+        assertThat(items.get(1).getMaterial()).isNull();
+        assertThat(items.get(4).getMaterial()).isNull();
+        assertThat(items.get(5).getMaterial()).isNull();
+    }
+
+    @Test
+    void cachedMaterialsSkipDatabase() {
+        List<Long> ids = List.of(create(), create());
+        detailCache.invalidateAll();
+
+        // 처음에는 없는 ID 만 한 번에 조회하고, 모두 찾았으므로 툼스톤 확인은 하지 않는다
+        assertQueryCount(1, () -> materialService.getMaterialsByIds(ids));
+        List<MaterialBatchItemDto> cached = assertQueryCount(0, () -> materialService.getMaterialsByIds(ids));
+
+        assertThat(cached).allSatisfy(item -> assertThat(item.isFound()).isTrue());
+    }
+
+    @Test
+    void largeMissSetIsQueriedInChunks() {
+        List<Long> ids = LongStream.range(0, 1500).mapToObj(i -> UNKNOWN_ID + 1 + i).toList();
+
+        // 상세 조회 2번 + 툼스톤 확인 2번 (IN 1000건 단위)
+        List<MaterialBatchItemDto> items = assertQueryCount(4, () -> materialService.getMaterialsByIds(ids));
+
+        assertThat(items).hasSize(1500).allSatisfy(item -> {
+            assertThat(item.isFound()).isFalse();
+            assertThat(item.isDeleted()).isFalse();
+        });
+    }
+
+    private Long create() {
+        return materialService.createMaterial(MaterialRequestDto.builder()
+                .name("다건조회-" + UUID.randomUUID())
+                .materialCategoryId(1L)
+                .build()).getId();
+    }
+}
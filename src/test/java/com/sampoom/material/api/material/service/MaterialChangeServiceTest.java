@@ -0,0 +1,174 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.MaterialChangeDto;
+import com.sampoom.material.api.material.dto.MaterialChangesResponseDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.entity.MaterialChangeType;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.common.exception.GoneException;
+import com.sampoom.material.common.response.ErrorStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경분 조회: (revision, materialId) 커서 페이지, 없어진 자재의 DELETE 표시,
+ * 리비전 0 스냅샷, 이력 정리와 410 응답 확인.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaterialChangeServiceTest {
+
+    @Autowired
+    private MaterialChangeService changeService;
+
+    @Autowired
+    private MaterialChangeLogCompactor compactor;
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void resetCompactedRevision() {
+        jdbcTemplate.update("UPDATE material_revision SET compacted_revision = 0 WHERE id = 1");
+    }
+
+    @Test
+    void changesArePagedByRevisionThenMaterialIdWithoutGapsOrDuplicates() {
+        long since = changeService.currentRevision();
+        // 한 트랜잭션(같은 리비전)에 3건, 이어서 2건을 각각 다른 리비전으로
+        List<Long> expected = new ArrayList<>(materialService.createMaterials(IntStream.range(0, 3)
+                        .mapToObj(i -> request("변경분-" + UUID.randomUUID()))
+                        .toList())
+                .stream().map(MaterialResponseDto::getId).sorted().toList());
+        expected.add(materialService.createMaterial(request("변경분-" + UUID.randomUUID())).getId());
+        expected.add(materialService.createMaterial(request("변경분-" + UUID.randomUUID())).getId());
+
+        List<MaterialChangeDto> changes = new ArrayList<>();
+        MaterialChangesResponseDto page = changeService.getChanges(since, null, 2);
+        changes.addAll(page.getChanges());
+        int pages = 1;
+        while (page.isHasNext() && pages < 10) {
+            page = changeService.getChanges(since, page.getNextCursor(), 2);
+            changes.addAll(page.getChanges());
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(changes).extracting(MaterialChangeDto::getMaterialId).containsExactlyElementsOf(expected);
+        assertThat(changes).extracting(MaterialChangeDto::getType).containsOnly(MaterialChangeType.UPSERT);
+        assertThat(changes.get(0).getRevision()).isEqualTo(changes.get(2).getRevision());
+        assertThat(changes.get(3).getRevision()).isLessThan(changes.get(4).getRevision());
+        assertThat(page.getLastRevision()).isEqualTo(changeService.currentRevision());
+    }
+
+    @Test
+    void upsertOfMaterialDeletedLaterIsReportedAsDelete() {
+        long since = changeService.currentRevision();
+        Long id = materialService.createMaterial(request("삭제예정-" + UUID.randomUUID())).getId();
+        materialService.deleteMaterial(id);
+
+        List<MaterialChangeDto> changes = changeService.getChanges(since, null, 100).getChanges();
+
+        assertThat(changes).hasSize(2);
+        assertThat(changes).allSatisfy(change -> {
+            assertThat(change.getMaterialId()).isEqualTo(id);
+            assertThat(change.getType()).isEqualTo(MaterialChangeType.DELETE);
+            assertThat(change.getMaterial()).isNull();
+        });
+    }
+
+    @Test
+    void sinceZeroIncludesMaterialsLoadedWithoutEvents() {
+        // DataInitializer 가 이벤트 없이 적재한 자재는 기동 시 리비전 0 으로 채워진다
+        List<Long> seeded = materialRepository.findFirstPage(PageRequest.of(0, 10)).stream()
+                .map(MaterialResponseDto::getId)
+                .toList();
+
+        Set<Long> ids = new HashSet<>();
+        boolean snapshot = false;
+        String cursor = null;
+        MaterialChangesResponseDto page;
+        do {
+            page = changeService.getChanges(0, cursor, 5000);
+            for (MaterialChangeDto change : page.getChanges()) {
+                ids.add(change.getMaterialId());
+                snapshot |= change.getRevision() == 0;
+            }
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertThat(snapshot).isTrue();
+        assertThat(ids).containsAll(seeded);
+        // 마지막 페이지의 lastRevision 은 현재 리비전이므로 다음 동기화가 리비전 0 부터 다시 읽지 않는다
+        assertThat(page.getLastRevision()).isEqualTo(changeService.currentRevision());
+    }
+
+    @Test
+    void compactionKeepsOnlyLatestChangePerMaterial() {
+        Long id = materialService.createMaterial(request("압축-" + UUID.randomUUID())).getId();
+        materialService.updateMaterial(id, request("압축-수정1-" + UUID.randomUUID()));
+        materialService.updateMaterial(id, request("압축-수정2-" + UUID.randomUUID()));
+        assertThat(changeLogCount(id)).isEqualTo(3);
+
+        compactor.compact();
+
+        assertThat(changeLogCount(id)).isEqualTo(1);
+    }
+
+    @Test
+    void sinceBeforeExpiredDeleteIsGone() {
+        // since 가 0 이 아니도록 리비전을 하나 올려 둔다
+        materialService.createMaterial(request("만료전-" + UUID.randomUUID()));
+        long since = changeService.currentRevision();
+        Long id = materialService.createMaterial(request("만료-" + UUID.randomUUID())).getId();
+        materialService.deleteMaterial(id);
+        long deletedAt = changeService.currentRevision();
+        // 보관 기간이 지난 삭제 이력으로 만든다
+        jdbcTemplate.update("UPDATE material_change_log SET changed_at = ? WHERE material_id = ?",
+                Timestamp.valueOf("2000-01-01 00:00:00"), id);
+
+        compactor.compact();
+
+        assertThat(changeLogCount(id)).isZero();
+        assertThatThrownBy(() -> changeService.getChanges(since, null, 100))
+                .isInstanceOf(GoneException.class)
+                .satisfies(e -> assertThat(((GoneException) e).getErrorCode())
+                        .isEqualTo(ErrorStatus.MATERIAL_CHANGES_EXPIRED.getCode()));
+        assertThat(changeService.getChanges(deletedAt, null, 100).getChanges()).isEmpty();
+        // since=0 은 처음부터 다시 받는 소비자이므로 정리된 삭제를 알 필요가 없다
+        assertThat(changeService.getChanges(0, null, 1).getChanges()).isNotEmpty();
+    }
+
+    private int changeLogCount(Long materialId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM material_change_log WHERE material_id = ?", Integer.class, materialId);
+        return count == null ? 0 : count;
+    }
+
+    private static MaterialRequestDto request(String name) {
+        return MaterialRequestDto.builder().name(name).materialCategoryId(1L).build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 인스턴스(할당기)와 스레드가 동시에 코드를 받아도 겹치지 않고, 기존 코드 번호 뒤에서 이어지는지 확인.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaterialCodeAllocatorTest {
+
+    private static final int THREADS = 8;
+    private static final int CODES_PER_THREAD = 250;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private MaterialCategoryRegistry categoryRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentAllocatorsNeverHandOutTheSameCode() throws Exception {
+        MaterialCategoryResponseDto category = categoryRegistry.getAll().get(0);
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT material_code FROM material", String.class));
+
+        // 작은 구간으로 예약이 자주 일어나도록 해 두 인스턴스를 흉내 낸다
+        try (MaterialCodeAllocator first = new MaterialCodeAllocator(dataSourceProperties, 7, 2);
+             MaterialCodeAllocator second = new MaterialCodeAllocator(dataSourceProperties, 7, 2)) {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                MaterialCodeAllocator allocator = (t % 2 == 0) ? first : second;
+                Callable<List<String>> task = () -> {
+                    start.await();
+                    List<String> codes = new ArrayList<>(CODES_PER_THREAD);
+                    for (int i = 0; i < CODES_PER_THREAD; i++) {
+                        codes.add(allocator.next(category));
+                    }
+                    return codes;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<String> allocated = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                allocated.addAll(future.get());
+            }
+            executor.shutdown();
+
+            assertThat(allocated).hasSize(THREADS * CODES_PER_THREAD)
+                    .doesNotHaveDuplicates()
+                    .allSatisfy(code -> assertThat(code).startsWith(category.getCode() + "-"))
+                    .noneMatch(existing::contains);
+        }
+    }
+
+    @Test
+    void parseNumberReadsNumericSuffixOnly() {
+        assertThat(MaterialCodeAllocator.parseNumber("MTL-0042", 4)).isEqualTo(42L);
+        assertThat(MaterialCodeAllocator.parseNumber("MTL-10000", 4)).isEqualTo(10_000L);
+        assertThat(MaterialCodeAllocator.parseNumber("MTL-12A", 4)).isZero();
+        assertThat(MaterialCodeAllocator.parseNumber("MTL-", 4)).isZero();
+        assertThat(MaterialCodeAllocator.parseNumber(null, 4)).isZero();
+    }
+
+    @Test
+    void prefixPatternDoesNotMatchOtherCategoriesThroughWildcards() {
+        assertThat(MaterialCodeAllocator.prefixPattern("M_L-")).isEqualTo("M\\_L-%");
+        assertThat(MaterialCodeAllocator.prefixPattern("M%-")).isEqualTo("M\\%-%");
+
+        // 이스케이프하지 않으면 '_' 가 'T' 와 일치해 MTL 코드의 번호까지 세게 된다
+        Integer matched = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM material WHERE material_code LIKE ? ESCAPE '\\'",
+                Integer.class, MaterialCodeAllocator.prefixPattern("M_L-"));
+        assertThat(matched).isZero();
+    }
+
+    @Test
+    void formatPadsToFourDigits() {
+        assertThat(MaterialCodeAllocator.format("MTL", 7)).isEqualTo("MTL-0007");
+        assertThat(MaterialCodeAllocator.format("MTL", 12_345)).isEqualTo("MTL-12345");
+    }
+}
@@ -0,0 +1,91 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.CursorResponseDto;
+import com.sampoom.material.api.material.dto.MaterialRequestDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 페이지네이션: 같은 이름이 여러 건일 때 (name, id) 순서로 빠짐/중복 없이 넘어가는지,
+ * 잘못된 커서가 500 이 아닌 400 으로 응답되는지 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MaterialCursorPagingTest {
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void searchAfterPagesThroughNameTiesByIdWithoutGapsOrDuplicates() {
+        String name = "커서동명-" + UUID.randomUUID();
+        List<MaterialResponseDto> created = materialService.createMaterials(IntStream.range(0, 5)
+                .mapToObj(i -> MaterialRequestDto.builder().name(name).materialCategoryId(1L).build())
+                .toList());
+        List<Long> expectedIds = created.stream().map(MaterialResponseDto::getId).sorted().toList();
+
+        List<Long> pagedIds = new ArrayList<>();
+        String after = "";
+        int pages = 0;
+        do {
+            CursorResponseDto<MaterialResponseDto> page = materialService.searchMaterialsAfter(name, after, 2);
+            page.getContent().forEach(material -> pagedIds.add(material.getId()));
+            after = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(after != null);
+        } while (after != null && pages < 10);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void getAllAfterWalksEveryIdOnce() {
+        List<Long> pagedIds = new ArrayList<>();
+        String after = "";
+        do {
+            CursorResponseDto<MaterialResponseDto> page = materialService.getAllMaterialsAfter(after, 7);
+            page.getContent().forEach(material -> pagedIds.add(material.getId()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertThat(pagedIds).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void garbageCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/materials").param("after", "!!garbage!!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.INVALID_CURSOR.getCode()));
+    }
+
+    @Test
+    void cursorOfOtherEndpointIsBadRequest() throws Exception {
+        // ID 커서를 이름 정렬 검색에 넘기면 400
+        String idCursor = materialService.getAllMaterialsAfter("", 1).getNextCursor();
+
+        mockMvc.perform(get("/api/materials/search").param("keyword", "강").param("after", idCursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorStatus.INVALID_CURSOR.getCode()));
+    }
+}
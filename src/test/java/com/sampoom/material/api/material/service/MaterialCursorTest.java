@@ -0,0 +1,102 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.common.exception.BadRequestException;
+import com.sampoom.material.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 토큰 인코딩/디코딩과 잘못된 토큰의 400 처리 확인.
+ */
+class MaterialCursorTest {
+
+    @Test
+    void idCursorRoundTrip() {
+        String token = MaterialCursor.ofId(material(42L, "냉간압연강판")).encode();
+
+        MaterialCursor decoded = MaterialCursor.decodeId(token);
+
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.name()).isNull();
+    }
+
+    @Test
+    void nameCursorRoundTripKeepsSeparatorInName() {
+        String token = MaterialCursor.ofName(material(7L, "볼트:M8 x 20")).encode();
+
+        MaterialCursor decoded = MaterialCursor.decodeName(token);
+
+        assertThat(decoded.id()).isEqualTo(7L);
+        assertThat(decoded.name()).isEqualTo("볼트:M8 x 20");
+        // URL 에 그대로 넣을 수 있어야 한다
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void nameCursorOfNullNameUsesEmptyName() {
+        MaterialCursor decoded = MaterialCursor.decodeName(MaterialCursor.ofName(material(3L, null)).encode());
+
+        assertThat(decoded.name()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void blankTokenMeansFirstPage(String token) {
+        assertThat(MaterialCursor.decodeId(token)).isNull();
+        assertThat(MaterialCursor.decodeName(token)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!not-base64!!!", "%%%"})
+    void malformedTokenIsBadRequest(String token) {
+        assertBadRequest(() -> MaterialCursor.decodeId(token));
+        assertBadRequest(() -> MaterialCursor.decodeName(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"i:abc", "i:", "x:1", "n:abc:name", "n:12"})
+    void tamperedTokenIsBadRequest(String raw) {
+        String token = encode(raw);
+
+        assertBadRequest(() -> {
+            MaterialCursor.decodeId(token);
+            MaterialCursor.decodeName(token);
+        });
+    }
+
+    @Test
+    void cursorOfOtherOrderIsBadRequest() {
+        String idToken = MaterialCursor.ofId(material(1L, "a")).encode();
+        String nameToken = MaterialCursor.ofName(material(1L, "a")).encode();
+
+        assertBadRequest(() -> MaterialCursor.decodeName(idToken));
+        assertBadRequest(() -> MaterialCursor.decodeId(nameToken));
+    }
+
+    private void assertBadRequest(Runnable action) {
+        assertThatThrownBy(action::run)
+                .isInstanceOfSatisfying(BadRequestException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.INVALID_CURSOR.getCode());
+                });
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MaterialResponseDto material(Long id, String name) {
+        return MaterialResponseDto.builder().id(id).name(name).build();
+    }
+}
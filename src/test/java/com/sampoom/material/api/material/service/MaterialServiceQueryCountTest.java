@@ -0,0 +1,77 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.CursorResponseDto;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.dto.PageResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.sampoom.material.common.monitoring.SqlStatementAssertions.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/검색/상세 조회가 카테고리 지연 로딩 없이 한 번의 쿼리로 끝나는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MaterialServiceQueryCountTest {
+
+    @Autowired
+    private MaterialService materialService;
+
+    @Autowired
+    private MaterialDetailCache detailCache;
+
+    @BeforeEach
+    void setUp() {
+        detailCache.invalidateAll();
+    }
+
+    @Test
+    void getAllMaterialsUsesSingleQuery() {
+        PageResponseDto<MaterialResponseDto> page = assertQueryCount(1, () -> materialService.getAllMaterials(0, 20, false));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent()).allSatisfy(material -> assertThat(material.getMaterialCategoryName()).isNotNull());
+    }
+
+    @Test
+    void getMaterialsByCategoryUsesSingleQuery() {
+        PageResponseDto<MaterialResponseDto> page = assertQueryCount(1, () -> materialService.getMaterialsByCategory(1L, 0, 5, false));
+
+        assertThat(page.getContent()).hasSize(5);
+    }
+
+    @Test
+    void getAllCategoriesIsServedFromRegistry() {
+        assertThat(assertQueryCount(0, () -> materialService.getAllCategories())).isNotEmpty();
+    }
+
+    @Test
+    void searchMaterialsUsesSingleQuery() {
+        PageResponseDto<MaterialResponseDto> page = assertQueryCount(1, () -> materialService.searchMaterials("강", 0, 10, false));
+
+        assertThat(page.getContent()).isNotEmpty();
+    }
+
+    @Test
+    void getAllMaterialsAfterUsesSingleQuery() {
+        CursorResponseDto<MaterialResponseDto> page = assertQueryCount(1, () -> materialService.getAllMaterialsAfter("", 20));
+
+        assertThat(page.getContent()).hasSize(20);
+    }
+
+    @Test
+    void getMaterialByIdUsesSingleQueryThenCache() {
+        MaterialResponseDto material = assertQueryCount(1, () -> {
+            materialService.getMaterialById(1L);
+            return materialService.getMaterialById(1L);
+        });
+
+        assertThat(material.getMaterialCategoryName()).isNotNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.sampoom.material.api.material.service;
+
+import com.sampoom.material.api.material.cache.MaterialCountCache;
+import com.sampoom.material.api.material.dto.MaterialResponseDto;
+import com.sampoom.material.api.material.dto.PageResponseDto;
+import com.sampoom.material.api.material.repository.MaterialRepository;
+import com.sampoom.material.api.material.search.MaterialSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검색 색인 적재 전(ApplicationReadyEvent 이전)에는 DB LIKE 검색으로 대체되는지 확인.
+ */
+@ExtendWith(MockitoExtension.class)
+class MaterialServiceSearchFallbackTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    @Mock
+    private MaterialCountCache countCache;
+
+    @Mock
+    private MaterialSearchIndex searchIndex;
+
+    @InjectMocks
+    private MaterialService materialService;
+
+    @Test
+    void searchFallsBackToDatabaseBeforeIndexIsReady() {
+        MaterialResponseDto material = MaterialResponseDto.builder().id(1L).name("강판").build();
+        when(searchIndex.isReady()).thenReturn(false);
+        when(materialRepository.searchDtoSlice(eq("%강판%"), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(material)));
+        when(countCache.countByKeyword("강판")).thenReturn(1L);
+
+        PageResponseDto<MaterialResponseDto> page = materialService.searchMaterials("강판", 0, 10, true);
+
+        assertThat(page.getContent()).containsExactly(material);
+        assertThat(page.getTotalElements()).isEqualTo(1L);
+        verify(searchIndex, never()).search(anyString());
+    }
+
+    @Test
+    void likeWildcardsInKeywordAreEscaped() {
+        when(searchIndex.isReady()).thenReturn(false);
+        when(materialRepository.searchDtoSlice(eq("%50\\%\\_a%"), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        PageResponseDto<MaterialResponseDto> page = materialService.searchMaterials("50%_A", 0, 10, false);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isNull();
+    }
+}
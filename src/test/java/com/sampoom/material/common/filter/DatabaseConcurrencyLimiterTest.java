@@ -0,0 +1,137 @@
+package com.sampoom.material.common.filter;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB 동시 처리 한도: 커넥션을 꺼내는 요청만 허가를 쓰고, 요청당 허가는 하나, 요청 밖 커넥션은 제한하지 않는다.
+ */
+class DatabaseConcurrencyLimiterTest {
+
+    private final DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+    private final DataSource dataSource = new ConcurrencyLimitedDataSource(stubDataSource(), limiter);
+
+    @Test
+    void requestWithoutConnectionDoesNotTakePermit() throws Exception {
+        CountDownLatch cacheHitStarted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> cacheHit = CompletableFuture.runAsync(() -> {
+            limiter.begin();
+            try {
+                cacheHitStarted.countDown();
+                await(finish);
+            } finally {
+                limiter.end();
+            }
+        });
+        cacheHitStarted.await();
+
+        inRequest(() -> dataSource.getConnection());
+
+        finish.countDown();
+        cacheHit.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void requestReusesItsPermitForNestedConnections() throws Exception {
+        inRequest(() -> {
+            dataSource.getConnection();
+            dataSource.getConnection();
+        });
+        // 요청이 끝나면 반납되어 다음 요청이 받을 수 있다
+        inRequest(() -> dataSource.getConnection());
+    }
+
+    @Test
+    void secondRequestIsRejectedWhileFirstHoldsPermit() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            limiter.begin();
+            try {
+                dataSource.getConnection();
+                acquired.countDown();
+                await(finish);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                limiter.end();
+            }
+        });
+        acquired.await();
+
+        limiter.begin();
+        try {
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(DatabaseConcurrencyLimiter.LimitExceededException.class);
+        } finally {
+            limiter.end();
+        }
+
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void connectionsOutsideRequestAreNotLimited() throws Exception {
+        limiter.begin();
+        try {
+            dataSource.getConnection();
+            // 아웃박스 릴레이 같은 백그라운드 작업은 요청 구간 밖에서 커넥션을 꺼낸다
+            Connection background = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get(5, TimeUnit.SECONDS);
+            assertThat(background).isNotNull();
+        } finally {
+            limiter.end();
+        }
+    }
+
+    private void inRequest(SqlWork work) throws SQLException {
+        limiter.begin();
+        try {
+            work.run();
+        } finally {
+            limiter.end();
+        }
+    }
+
+    private static DataSource stubDataSource() {
+        DataSource target = mock(DataSource.class);
+        try {
+            when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return target;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
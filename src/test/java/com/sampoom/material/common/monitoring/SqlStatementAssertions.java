@@ -0,0 +1,35 @@
+package com.sampoom.material.common.monitoring;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 문 수 검증.
+ * 현재 스레드에서 action 이 실행한 SQL 문 수가 expected 와 같은지 확인하고 action 의 결과를 돌려준다.
+ *
+ * <pre>
+ * PageResponseDto&lt;MaterialResponseDto&gt; page = assertQueryCount(1, () -&gt; materialService.getAllMaterials(0, 20, false));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertQueryCount(long expected, Supplier<T> action) {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        T result = action.get();
+        assertThat(scope.count())
+                .as("executed SQL statements")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    public static void assertQueryCount(long expected, Runnable action) {
+        assertQueryCount(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.sampoom.material.fixture;
+
+import com.sampoom.material.MaterialApplication;
+import com.sampoom.material.api.material.cache.MaterialCategoryRegistry;
+import com.sampoom.material.api.material.cache.MaterialCountCache;
+import com.sampoom.material.api.material.cache.MaterialDetailCache;
+import com.sampoom.material.api.material.dto.MaterialCategoryResponseDto;
+import com.sampoom.material.api.material.search.MaterialHangulIndex;
+import com.sampoom.material.api.material.search.MaterialSearchIndex;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크(src/jmh)와 부하 테스트(src/loadTest)가 함께 쓰는 애플리케이션 기동 + 합성 카탈로그 적재.
+ * 내장 H2 로 기동한 뒤(스키마와 인덱스는 Flyway H2 마이그레이션) JDBC 배치 INSERT 로 자재를 채우고, 메모리 색인/캐시를 다시 만든다.
+ */
+public final class SyntheticCatalog {
+
+    // 시퀀스가 발급하는 ID 와 겹치지 않도록 합성 데이터는 이 값부터 사용
+    public static final long FIRST_SYNTHETIC_ID = 1_000_000_000L;
+
+    // 합성 자재 이름에 쓰는 재료명 (검색 키워드로도 사용)
+    public static final List<String> MATERIALS = List.of("강판", "강관", "알루미늄", "합금", "구리선", "수지", "고무", "볼트", "너트", "베어링");
+    private static final List<String> QUALIFIERS = List.of("냉간압연", "열간압연", "고강도", "내열", "경량", "절연", "도금", "특수");
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * 내장 H2 DB(databaseName)로 애플리케이션을 기동한다. extraArgs 는 공통 인자 뒤에 붙으므로 같은 설정을 덮어쓸 수 있다.
+     */
+    public static ConfigurableApplicationContext boot(String databaseName, List<String> extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                // 명령행 인자로 넘겨 로컬 application.properties 의 DB 설정보다 우선하도록 한다
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        args.addAll(extraArgs);
+        return SpringApplication.run(MaterialApplication.class, args.toArray(String[]::new));
+    }
+
+    /**
+     * 자재 catalogSize 건을 FIRST_SYNTHETIC_ID 부터 채운다. 코드는 "{codePrefix}{카테고리 코드}-{7자리 번호}" 형식.
+     * 적재에 사용한 카테고리 목록을 돌려준다.
+     */
+    public static List<MaterialCategoryResponseDto> seed(ConfigurableApplicationContext context, String codePrefix, int catalogSize) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<MaterialCategoryResponseDto> categories = context.getBean(MaterialCategoryRegistry.class).getAll();
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < catalogSize; i++) {
+            MaterialCategoryResponseDto category = categories.get(i % categories.size());
+            long id = FIRST_SYNTHETIC_ID + i;
+            String name = QUALIFIERS.get(i % QUALIFIERS.size()) + MATERIALS.get((i / QUALIFIERS.size()) % MATERIALS.size()) + " " + i;
+            String code = codePrefix + category.getCode() + "-" + String.format("%07d", i);
+            batch.add(new Object[]{id, name, code, category.getId()});
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == catalogSize - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO material (material_id, material_name, material_code, material_category_id) VALUES (?, ?, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+
+        // JDBC 로 직접 넣었으므로 이벤트 기반 색인/캐시를 다시 만든다
+        context.getBean(MaterialSearchIndex.class).rebuild();
+        context.getBean(MaterialHangulIndex.class).rebuild();
+        context.getBean(MaterialCountCache.class).clear();
+        context.getBean(MaterialDetailCache.class).invalidateAll();
+        return categories;
+    }
+}